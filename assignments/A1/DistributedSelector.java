@@ -0,0 +1,182 @@
+import java.util.Arrays;
+
+/**
+ * Coordinates exact selection over an int array that is split into
+ * shards held by separate workers, without moving the shards.
+ *
+ * The coordinator keeps a value interval [lo..hi] known to contain the
+ * answer, together with the number of values below lo. Each round it
+ * sends PIVOTS evenly spaced pivots in the interval to every shard,
+ * sums the per-shard counts below each pivot, and keeps the one slice
+ * of the interval that must hold the answer; the interval shrinks by a
+ * factor of PIVOTS + 1 per round, so at most eight rounds cover the
+ * whole int range. Once the interval holds at most CANDIDATE_LIMIT
+ * values the shards send those values and the coordinator finishes
+ * locally. Network cost is O(rounds * shards) small messages plus the
+ * final candidates, instead of O(n).
+ *
+ * Ranks here count duplicates, so kmin(k) is the value at position k
+ * of the sorted data, as for quantiles. Selector.kmin instead ranks
+ * distinct values; that cannot be decided from per-shard counts
+ * without shipping the values themselves.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class DistributedSelector {
+
+   /** Pivots sent to each shard per narrowing round. */
+   public static final int PIVOTS = 15;
+
+   /** Largest interval population finished from candidate values. */
+   public static final int CANDIDATE_LIMIT = 4096;
+
+   private final ShardTransport transport;
+   private int rounds;
+
+
+   /**
+    * Creates a coordinator that reaches its shards through transport.
+    * This constructor throws IllegalArgumentException if transport is
+    * null.
+    */
+   public DistributedSelector(ShardTransport transport) {
+      if (transport == null) {
+         throw new IllegalArgumentException();
+      }
+      this.transport = transport;
+   }
+
+
+   /** Returns the number of values across all shards. */
+   public long size() {
+      long n = 0;
+      for (int s = 0; s < transport.shards(); s++) {
+         n += transport.size(s);
+      }
+      return n;
+   }
+
+
+   /**
+    * Returns the number of narrowing rounds used by the most recent
+    * kmin or kmax.
+    */
+   public int lastRounds() {
+      return rounds;
+   }
+
+
+   /**
+    * Selects the kth smallest value across all shards, counting
+    * duplicates. This method throws IllegalArgumentException if k < 1
+    * or k is larger than the number of values.
+    */
+   public int kmin(long k) {
+      long[] sizes = new long[transport.shards()];
+      long n = 0;
+      for (int s = 0; s < sizes.length; s++) {
+         sizes[s] = transport.size(s);
+         n += sizes[s];
+      }
+      if (k < 1 || k > n) {
+         throw new IllegalArgumentException();
+      }
+      return select(k, sizes, n);
+   }
+
+
+   /**
+    * Selects the kth largest value across all shards, counting
+    * duplicates. This method throws IllegalArgumentException if k < 1
+    * or k is larger than the number of values.
+    */
+   public int kmax(long k) {
+      long[] sizes = new long[transport.shards()];
+      long n = 0;
+      for (int s = 0; s < sizes.length; s++) {
+         sizes[s] = transport.size(s);
+         n += sizes[s];
+      }
+      if (k < 1 || k > n) {
+         throw new IllegalArgumentException();
+      }
+      return select(n - k + 1, sizes, n);
+   }
+
+
+   /** Runs the protocol for 1-based rank k among n values. */
+   private int select(long k, long[] sizes, long n) {
+      rounds = 0;
+      long lo = Long.MAX_VALUE;
+      long hi = Long.MIN_VALUE;
+      for (int s = 0; s < sizes.length; s++) {
+         if (sizes[s] > 0) {
+            int[] b = transport.bounds(s);
+            lo = Math.min(lo, b[0]);
+            hi = Math.max(hi, b[1]);
+         }
+      }
+      // values below lo, and values up to and including hi
+      long below = 0;
+      long upto = n;
+      while (lo < hi && upto - below > CANDIDATE_LIMIT) {
+         rounds++;
+         int[] pivots = pivots(lo, hi);
+         long[] counts = new long[pivots.length];
+         for (int s = 0; s < sizes.length; s++) {
+            if (sizes[s] == 0) {
+               continue;
+            }
+            long[] c = transport.countBelow(s, pivots);
+            for (int j = 0; j < counts.length; j++) {
+               counts[j] += c[j];
+            }
+         }
+         // the answer lies below the first pivot with k values under it
+         int j = 0;
+         while (j < pivots.length && counts[j] < k) {
+            j++;
+         }
+         if (j > 0) {
+            lo = pivots[j - 1];
+            below = counts[j - 1];
+         }
+         if (j < pivots.length) {
+            hi = pivots[j] - 1L;
+            upto = counts[j];
+         }
+      }
+      if (lo == hi) {
+         return (int) lo;
+      }
+      int[] values = new int[(int) (upto - below)];
+      int filled = 0;
+      for (int s = 0; s < sizes.length; s++) {
+         if (sizes[s] == 0) {
+            continue;
+         }
+         int[] c = transport.candidates(s, (int) lo, (int) hi);
+         System.arraycopy(c, 0, values, filled, c.length);
+         filled += c.length;
+      }
+      Arrays.sort(values, 0, filled);
+      return values[(int) (k - below - 1)];
+   }
+
+
+   /**
+    * Returns up to PIVOTS distinct, ascending pivots evenly spaced in
+    * (lo..hi], where lo < hi.
+    */
+   private static int[] pivots(long lo, long hi) {
+      long span = hi - lo;
+      int count = (int) Math.min(PIVOTS, span);
+      int[] pivots = new int[count];
+      for (int j = 0; j < count; j++) {
+         pivots[j] = (int) (lo + 1 + (span * (j + 1) - 1) / (count + 1));
+      }
+      return pivots;
+   }
+}
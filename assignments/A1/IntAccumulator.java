@@ -0,0 +1,93 @@
+import java.util.Arrays;
+
+/**
+ * A growable, reusable list of ints for collecting query results
+ * without allocating on every call. Storage only grows, so once an
+ * accumulator has reached its working size, clearing and refilling it
+ * allocates nothing.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class IntAccumulator {
+
+   private static final int DEFAULT_CAPACITY = 16;
+
+   private int[] elements;
+   private int size;
+
+
+   /** Creates an empty accumulator with a small initial capacity. */
+   public IntAccumulator() {
+      this(DEFAULT_CAPACITY);
+   }
+
+
+   /**
+    * Creates an empty accumulator that can hold capacity values before
+    * it grows. This constructor throws IllegalArgumentException if
+    * capacity is negative.
+    */
+   public IntAccumulator(int capacity) {
+      if (capacity < 0) {
+         throw new IllegalArgumentException();
+      }
+      elements = new int[capacity];
+   }
+
+
+   /** Appends value, growing the storage if it is full. */
+   public void add(int value) {
+      if (size == elements.length) {
+         elements = Arrays.copyOf(elements, Math.max(2 * size, DEFAULT_CAPACITY));
+      }
+      elements[size++] = value;
+   }
+
+
+   /**
+    * Returns the value at index i. This method throws
+    * IndexOutOfBoundsException unless 0 <= i < size().
+    */
+   public int get(int i) {
+      if (i < 0 || i >= size) {
+         throw new IndexOutOfBoundsException();
+      }
+      return elements[i];
+   }
+
+
+   /** Returns the number of values held. */
+   public int size() {
+      return size;
+   }
+
+
+   /** Returns true if no values are held. */
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+
+   /** Removes all values but keeps the storage for reuse. */
+   public void clear() {
+      size = 0;
+   }
+
+
+   /**
+    * Returns the backing array, whose first size() elements are the
+    * values held. The array is shared, not copied, and is replaced
+    * when the accumulator grows.
+    */
+   public int[] array() {
+      return elements;
+   }
+
+
+   /** Returns a new array holding exactly the values held. */
+   public int[] toArray() {
+      return Arrays.copyOf(elements, size);
+   }
+}
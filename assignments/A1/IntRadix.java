@@ -0,0 +1,197 @@
+/**
+ * Linear-time distinct ranking for int arrays, used by Selector when
+ * the data allows it.
+ *
+ * When the span max - min is small relative to the number of values
+ * (for example latencies in microseconds), a presence bitmap over the
+ * span is a counting sort that removes duplicates for free. Otherwise
+ * sortDistinct falls back to an LSD radix sort, one byte per pass,
+ * that skips passes on which every value has the same digit and drops
+ * duplicates while scattering the last pass. The source array is
+ * never modified.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class IntRadix {
+
+   // a bitmap is used when the span is at most this many bits per value
+   private static final int DENSE_BITS_PER_VALUE = 8;
+
+   private static final int RADIX = 256;
+
+   private IntRadix() { }
+
+
+   /**
+    * Returns true if a presence bitmap over [min..max] costs no more
+    * than a small constant per value for an array of length n.
+    */
+   static boolean isDense(int n, int min, int max) {
+      long span = (long) max - min + 1;
+      return span <= (long) n * DENSE_BITS_PER_VALUE;
+   }
+
+
+   /**
+    * Returns a bitmap with bit (v - min) set for every value v in a.
+    * Every value of a must lie in [min..max].
+    */
+   static long[] presence(int[] a, int min, int max) {
+      long span = (long) max - min + 1;
+      long[] bits = new long[(int) ((span + 63) >>> 6)];
+      for (int i = 0; i < a.length; i++) {
+         int offset = a[i] - min;
+         bits[offset >>> 6] |= 1L << offset;
+      }
+      return bits;
+   }
+
+
+   /** Returns the number of bits set in bits. */
+   static int cardinality(long[] bits) {
+      int count = 0;
+      for (int i = 0; i < bits.length; i++) {
+         count += Long.bitCount(bits[i]);
+      }
+      return count;
+   }
+
+
+   /**
+    * Returns min plus the position of the set bit with 0-based rank r.
+    * There must be more than r bits set.
+    */
+   static int selectPresent(long[] bits, int min, int r) {
+      int word = 0;
+      int remaining = r;
+      while (Long.bitCount(bits[word]) <= remaining) {
+         remaining -= Long.bitCount(bits[word]);
+         word++;
+      }
+      long w = bits[word];
+      for (int i = 0; i < remaining; i++) {
+         w &= w - 1;
+      }
+      return min + (word << 6) + Long.numberOfTrailingZeros(w);
+   }
+
+
+   /**
+    * Writes the distinct values of a into the front of out in
+    * ascending order and returns how many there are. out must be at
+    * least as long as a.
+    */
+   static int sortDistinct(int[] a, int[] out) {
+      int n = a.length;
+      if (n == 0) {
+         return 0;
+      }
+      int min = a[0];
+      int max = a[0];
+      for (int i = 1; i < n; i++) {
+         min = Math.min(min, a[i]);
+         max = Math.max(max, a[i]);
+      }
+      return sortDistinct(a, out, min, max);
+   }
+
+
+   /**
+    * Same as sortDistinct(int[], int[]) for a caller that already
+    * knows the smallest and largest values of a, which must have
+    * nonzero length.
+    */
+   static int sortDistinct(int[] a, int[] out, int min, int max) {
+      if (isDense(a.length, min, max)) {
+         long[] bits = presence(a, min, max);
+         int count = 0;
+         for (int word = 0; word < bits.length; word++) {
+            long w = bits[word];
+            while (w != 0) {
+               out[count++] = min + (word << 6) + Long.numberOfTrailingZeros(w);
+               w &= w - 1;
+            }
+         }
+         return count;
+      }
+      return radixDistinct(a, out);
+   }
+
+
+   /**
+    * LSD radix sort of a into out, dropping duplicates during the
+    * final scatter. Returns the number of distinct values; out must
+    * be at least as long as a, which must have nonzero length.
+    */
+   static int radixDistinct(int[] a, int[] out) {
+      int n = a.length;
+      // histograms of all four digits in one pass; keys are sign-flipped
+      // so that unsigned digit order is signed int order
+      int[][] counts = new int[4][RADIX];
+      for (int i = 0; i < n; i++) {
+         int key = a[i] ^ Integer.MIN_VALUE;
+         counts[0][key & 0xFF]++;
+         counts[1][(key >>> 8) & 0xFF]++;
+         counts[2][(key >>> 16) & 0xFF]++;
+         counts[3][key >>> 24]++;
+      }
+      int[] passes = new int[4];
+      int p = 0;
+      int first = a[0] ^ Integer.MIN_VALUE;
+      for (int d = 0; d < 4; d++) {
+         if (counts[d][(first >>> (8 * d)) & 0xFF] != n) {
+            passes[p++] = d;
+         }
+      }
+      if (p == 0) {
+         out[0] = a[0];
+         return 1;
+      }
+      int[] buf = (p > 1) ? new int[n] : null;
+      int[] src = a;
+      int[] next = new int[RADIX];
+      for (int pass = 0; pass < p - 1; pass++) {
+         int shift = 8 * passes[pass];
+         // ping-pong so that the last pass lands in out
+         int[] dst = ((p - 1 - pass) % 2 == 0) ? out : buf;
+         offsets(counts[passes[pass]], next);
+         for (int i = 0; i < n; i++) {
+            int b = ((src[i] ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+            dst[next[b]++] = src[i];
+         }
+         src = dst;
+      }
+      // equal values arrive consecutively within a bucket, so each
+      // bucket only has to compare with the last value it received
+      int shift = 8 * passes[p - 1];
+      int[] start = new int[RADIX];
+      offsets(counts[passes[p - 1]], start);
+      System.arraycopy(start, 0, next, 0, RADIX);
+      for (int i = 0; i < n; i++) {
+         int value = src[i];
+         int b = ((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+         if (next[b] == start[b] || out[next[b] - 1] != value) {
+            out[next[b]++] = value;
+         }
+      }
+      int w = 0;
+      for (int b = 0; b < RADIX; b++) {
+         for (int i = start[b]; i < next[b]; i++) {
+            out[w++] = out[i];
+         }
+      }
+      return w;
+   }
+
+
+   /** Fills offsets with the exclusive prefix sums of count. */
+   private static void offsets(int[] count, int[] offsets) {
+      int sum = 0;
+      for (int b = 0; b < RADIX; b++) {
+         offsets[b] = sum;
+         sum += count[b];
+      }
+   }
+}
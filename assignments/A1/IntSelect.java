@@ -0,0 +1,454 @@
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Hash-and-select engine behind the kmin and kmax methods of Selector
+ * for small arrays, IntBuffer sources, and small batches of ranks.
+ *
+ * Values are first collapsed to their distinct set in a single scratch
+ * table (open addressing), and the kth smallest distinct value is then
+ * found by introselect: quickselect with median-of-three pivots that
+ * falls back to median-of-medians pivots when the partitions stop
+ * shrinking. Expected time is O(n) and worst case O(n). The source
+ * array is never modified.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class IntSelect {
+
+   // Ranges at or below this size are finished with insertion sort.
+   private static final int INSERTION_CUTOFF = 16;
+
+   // Largest source length the hash table can hold at load factor 1/2.
+   private static final int MAX_HASHED = 1 << 29;
+
+   // Largest IntBuffer source hashed into a single scratch table.
+   private static final int MAX_TABLED = 1 << 21;
+
+   // Value buckets counted before a windowed IntBuffer selection.
+   private static final int BUCKETS = 1 << 16;
+
+   // Widest value window whose distinct values are kept in a bitmap.
+   private static final int MAX_BITMAP = 1 << 27;
+
+   private IntSelect() { }
+
+
+   /**
+    * Returns a new scratch table sized for a source of length n. The
+    * table is at least twice n and a power of two so that distinct()
+    * runs at a load factor of at most one half.
+    */
+   static int[] table(int n) {
+      if (n > MAX_HASHED) {
+         return new int[n];
+      }
+      int capacity = Integer.highestOneBit(Math.max(2 * n - 1, 1)) << 1;
+      return new int[capacity];
+   }
+
+
+   /**
+    * Copies the distinct values of a into the front of table and
+    * returns how many there are. The order of the distinct values is
+    * unspecified. The table must come from table(a.length).
+    */
+   static int distinct(int[] a, int[] table) {
+      if (a.length > MAX_HASHED) {
+         System.arraycopy(a, 0, table, 0, a.length);
+         return sortedDistinct(table, a.length);
+      }
+      // 0 marks an empty slot, so a real 0 is tracked on the side.
+      boolean hasZero = false;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] == 0) {
+            hasZero = true;
+         }
+         else {
+            insert(table, a[i]);
+         }
+      }
+      return compact(table, hasZero);
+   }
+
+
+   /**
+    * Returns the kth smallest distinct remaining value of src, or the
+    * kth largest if fromMax, reading src in place; the position of src
+    * is not changed. Throws IllegalArgumentException if src has fewer
+    * than k distinct remaining values.
+    *
+    * Sources of up to MAX_TABLED values are hashed into one scratch
+    * table. Larger ones are never copied: a counting pass builds a
+    * histogram of BUCKETS equal-width value buckets, and the buckets
+    * are then visited in rank order, a window of them per pass, each
+    * window's distinct values collected in a bitmap when the window is
+    * at most MAX_BITMAP values wide and in a hash table otherwise. A
+    * bucket is at most 2^16 values wide, so it can hold no more
+    * distinct values than that or its count, and windows are grown
+    * while that bound stays within MAX_TABLED. Scratch memory is thus
+    * bounded by a few tens of megabytes whatever the source size.
+    */
+   static int kthDistinct(IntBuffer src, int k, boolean fromMax) {
+      int from = src.position();
+      int to = src.limit();
+      if (to - from <= MAX_TABLED) {
+         int[] table = table(to - from);
+         int count = distinct(src, from, to, table, Integer.MIN_VALUE,
+            Integer.MAX_VALUE);
+         if (k > count) {
+            throw new IllegalArgumentException();
+         }
+         return select(table, 0, count - 1, fromMax ? count - k : k - 1);
+      }
+
+      long lo = src.get(from);
+      long hi = lo;
+      for (int i = from + 1; i < to; i++) {
+         int value = src.get(i);
+         lo = Math.min(lo, value);
+         hi = Math.max(hi, value);
+      }
+      long width = (hi - lo) / BUCKETS + 1;
+      int[] counts = new int[BUCKETS];
+      for (int i = from; i < to; i++) {
+         counts[(int) ((src.get(i) - lo) / width)]++;
+      }
+      int last = (int) ((hi - lo) / width);
+
+      long[] bits = null;
+      int[] table = null;
+      int step = fromMax ? -1 : 1;
+      int j = fromMax ? last : 0;
+      while (true) {
+         // grow the window [first..j] of buckets in visiting order
+         int first = j;
+         long bound = Math.min(counts[j], width);
+         while (j + step >= 0 && j + step <= last) {
+            long more = Math.min(counts[j + step], width);
+            long span = (Math.abs(j + step - first) + 1) * width;
+            if (bound + more > MAX_TABLED && span > MAX_BITMAP) {
+               break;
+            }
+            bound += more;
+            j += step;
+         }
+         long wlo = lo + Math.min(first, j) * width;
+         long whi = Math.min(hi, lo + (Math.max(first, j) + 1) * width - 1);
+
+         if (whi - wlo < MAX_BITMAP) {
+            if (bits == null) {
+               bits = new long[(int) (Math.min(MAX_BITMAP, hi - lo + 1) + 63) / 64];
+            }
+            int words = (int) ((whi - wlo) / 64) + 1;
+            Arrays.fill(bits, 0, words, 0L);
+            int count = 0;
+            for (int i = from; i < to; i++) {
+               int value = src.get(i);
+               if (value >= wlo && value <= whi) {
+                  int at = (int) (value - wlo);
+                  long mask = 1L << at;
+                  if ((bits[at >>> 6] & mask) == 0) {
+                     bits[at >>> 6] |= mask;
+                     count++;
+                  }
+               }
+            }
+            if (k <= count) {
+               return (int) (wlo + nthBit(bits, words,
+                  fromMax ? count - k : k - 1));
+            }
+            k -= count;
+         }
+         else {
+            if (table == null) {
+               table = table(MAX_TABLED);
+            }
+            else {
+               Arrays.fill(table, 0);
+            }
+            int count = distinct(src, from, to, table, (int) wlo, (int) whi);
+            if (k <= count) {
+               return select(table, 0, count - 1, fromMax ? count - k : k - 1);
+            }
+            k -= count;
+         }
+         if (j == (fromMax ? 0 : last)) {
+            throw new IllegalArgumentException();
+         }
+         j += step;
+      }
+   }
+
+
+   /**
+    * Rearranges x[lo..hi] so that x[r] holds the value it would hold
+    * if the range were sorted, with smaller values to its left and
+    * larger ones to its right. Values in the range must be distinct.
+    * Returns x[r].
+    */
+   static int select(int[] x, int lo, int hi, int r) {
+      int budget = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+      while (hi - lo > INSERTION_CUTOFF) {
+         int p;
+         if (budget > 0) {
+            budget--;
+            p = medianOfThree(x, lo, lo + (hi - lo) / 2, hi);
+         }
+         else {
+            p = medianOfMedians(x, lo, hi);
+         }
+         p = partition(x, lo, hi, p);
+         if (r == p) {
+            return x[p];
+         }
+         if (r < p) {
+            hi = p - 1;
+         }
+         else {
+            lo = p + 1;
+         }
+      }
+      insertionSort(x, lo, hi);
+      return x[r];
+   }
+
+
+   /**
+    * Rearranges x[lo..hi] so that, for every rank r in the sorted,
+    * duplicate-free ranks[rlo..rhi], x[r] holds the value it would
+    * hold if the range were sorted. Each partitioning step splits the
+    * ranks as well as the values, so q ranks cost O(n log q). As in
+    * select, pivots switch from median-of-three to median-of-medians
+    * once the partitions stop shrinking, so the worst case is also
+    * O(n log q). Values in the range must be distinct.
+    */
+   static void multiselect(int[] x, int lo, int hi,
+                           int[] ranks, int rlo, int rhi) {
+      int budget = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+      multiselect(x, lo, hi, ranks, rlo, rhi, budget);
+   }
+
+
+   /**
+    * Body of multiselect, allowed budget more median-of-three pivots
+    * on every path before falling back to median-of-medians.
+    */
+   private static void multiselect(int[] x, int lo, int hi,
+                                   int[] ranks, int rlo, int rhi, int budget) {
+      while (rlo <= rhi) {
+         if (rlo == rhi) {
+            select(x, lo, hi, ranks[rlo]);
+            return;
+         }
+         if (hi - lo <= INSERTION_CUTOFF) {
+            insertionSort(x, lo, hi);
+            return;
+         }
+         int p;
+         if (budget > 0) {
+            budget--;
+            p = medianOfThree(x, lo, lo + (hi - lo) / 2, hi);
+         }
+         else {
+            p = medianOfMedians(x, lo, hi);
+         }
+         p = partition(x, lo, hi, p);
+         // ranks[rlo..split-1] are below p, ranks[split..rhi] are p or above
+         int split = Arrays.binarySearch(ranks, rlo, rhi + 1, p);
+         int above = split + 1;
+         if (split < 0) {
+            split = -split - 1;
+            above = split;
+         }
+         // recurse on the smaller side of the ranks, loop on the other
+         if (split - rlo < rhi - above + 1) {
+            multiselect(x, lo, p - 1, ranks, rlo, split - 1, budget);
+            lo = p + 1;
+            rlo = above;
+         }
+         else {
+            multiselect(x, p + 1, hi, ranks, above, rhi, budget);
+            hi = p - 1;
+            rhi = split - 1;
+         }
+      }
+   }
+
+
+   /**
+    * Partitions x[lo..hi] around the value at index p and returns the
+    * final index of that value. Values in the range must be distinct.
+    */
+   static int partition(int[] x, int lo, int hi, int p) {
+      int pivot = x[p];
+      swap(x, p, hi);
+      int store = lo;
+      for (int i = lo; i < hi; i++) {
+         if (x[i] < pivot) {
+            swap(x, i, store);
+            store++;
+         }
+      }
+      swap(x, store, hi);
+      return store;
+   }
+
+
+   /**
+    * Returns the index, among i, j, and k, of the median of the three
+    * values stored there.
+    */
+   static int medianOfThree(int[] x, int i, int j, int k) {
+      if (x[i] < x[j]) {
+         if (x[j] < x[k]) {
+            return j;
+         }
+         return (x[i] < x[k]) ? k : i;
+      }
+      if (x[i] < x[k]) {
+         return i;
+      }
+      return (x[j] < x[k]) ? k : j;
+   }
+
+
+   /**
+    * Returns the index of a pivot in x[lo..hi] that is guaranteed to
+    * have at least 3/10 of the range on each side. The range is
+    * rearranged in the process.
+    */
+   static int medianOfMedians(int[] x, int lo, int hi) {
+      int store = lo;
+      for (int g = lo; g <= hi; g += 5) {
+         int end = Math.min(g + 4, hi);
+         insertionSort(x, g, end);
+         swap(x, store, g + (end - g) / 2);
+         store++;
+      }
+      int mid = lo + (store - 1 - lo) / 2;
+      select(x, lo, store - 1, mid);
+      return mid;
+   }
+
+
+   /** Sorts x[lo..hi] in place. */
+   static void insertionSort(int[] x, int lo, int hi) {
+      for (int i = lo + 1; i <= hi; i++) {
+         int value = x[i];
+         int j = i - 1;
+         while (j >= lo && x[j] > value) {
+            x[j + 1] = x[j];
+            j--;
+         }
+         x[j + 1] = value;
+      }
+   }
+
+
+   /** Exchanges x[i] and x[j]. */
+   static void swap(int[] x, int i, int j) {
+      int tmp = x[i];
+      x[i] = x[j];
+      x[j] = tmp;
+   }
+
+
+   /**
+    * Copies the distinct values of src[from..to) that lie in
+    * [low..high] into the front of table and returns how many there
+    * are. The table must be empty and hold at least twice that many.
+    */
+   private static int distinct(IntBuffer src, int from, int to, int[] table,
+                               int low, int high) {
+      boolean hasZero = false;
+      for (int i = from; i < to; i++) {
+         int value = src.get(i);
+         if (value < low || value > high) {
+            continue;
+         }
+         if (value == 0) {
+            hasZero = true;
+         }
+         else {
+            insert(table, value);
+         }
+      }
+      return compact(table, hasZero);
+   }
+
+
+   /**
+    * Returns the index of the set bit of rank r (0-based, counted from
+    * the low end) among the first words of bits.
+    */
+   private static int nthBit(long[] bits, int words, int r) {
+      for (int w = 0; w < words; w++) {
+         int c = Long.bitCount(bits[w]);
+         if (r < c) {
+            long word = bits[w];
+            for (int i = 0; i < r; i++) {
+               word &= word - 1;
+            }
+            return w * 64 + Long.numberOfTrailingZeros(word);
+         }
+         r -= c;
+      }
+      throw new IllegalStateException();
+   }
+
+
+   /** Adds the nonzero value to the open-addressing table. */
+   private static void insert(int[] table, int value) {
+      int mask = table.length - 1;
+      int slot = hash(value) & mask;
+      while (table[slot] != 0 && table[slot] != value) {
+         slot = (slot + 1) & mask;
+      }
+      table[slot] = value;
+   }
+
+
+   /**
+    * Moves the occupied slots of table to its front, followed by 0 if
+    * hasZero, and returns how many values that is.
+    */
+   private static int compact(int[] table, boolean hasZero) {
+      int count = 0;
+      for (int i = 0; i < table.length; i++) {
+         if (table[i] != 0) {
+            table[count++] = table[i];
+         }
+      }
+      if (hasZero) {
+         table[count++] = 0;
+      }
+      return count;
+   }
+
+
+   /** Spreads the bits of value so that nearby ints land far apart. */
+   private static int hash(int value) {
+      int h = value * 0x9E3779B9;
+      return h ^ (h >>> 16);
+   }
+
+
+   /**
+    * Fallback for sources too large to hash: sorts the first n values
+    * of table, which hold a copy of the source, and compacts them in
+    * place.
+    */
+   private static int sortedDistinct(int[] table, int n) {
+      Arrays.sort(table, 0, n);
+      int count = 0;
+      for (int i = 0; i < n; i++) {
+         if (count == 0 || table[count - 1] != table[i]) {
+            table[count++] = table[i];
+         }
+      }
+      return count;
+   }
+}
@@ -0,0 +1,423 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A mergeable quantile sketch for ints in the style of Karnin, Lang,
+ * and Liberty (KLL). It summarizes any number of values in memory that
+ * depends only on the accuracy parameter k and answers approximate
+ * rank, kmin, kmax, and range-count queries.
+ *
+ * The sketch is a stack of compactors. Level h holds values that each
+ * stand for 2^h of the original values; when a level fills up it is
+ * sorted and every other value (from a random starting point) is
+ * promoted to the level above. Lower levels get geometrically smaller
+ * capacities, so at most about 3k values are retained in total.
+ *
+ * Unlike Selector, ranks here count duplicates: kmin(k) estimates the
+ * value at position k of the sorted data. Rank answers are within
+ * about epsilon() * n of the truth with high probability.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class KllIntSketch {
+
+   /** Accuracy parameter used by the no-argument constructor. */
+   public static final int DEFAULT_K = 200;
+
+   /** Smallest accepted accuracy parameter. */
+   public static final int MIN_K = 8;
+
+   // capacity of each level below the top shrinks by this factor
+   private static final double SHRINK = 2.0 / 3.0;
+
+   // smallest capacity of any level
+   private static final int MIN_CAPACITY = 2;
+
+   // error model for this compactor schedule: epsilon ~ SCALE / k^EXPONENT
+   private static final double ERROR_SCALE = 2.3;
+   private static final double ERROR_EXPONENT = 0.97;
+
+   private final int k;
+   private final Random rng;
+   private int[][] levels;
+   private int[] sizes;
+   private int[] capacities;
+   private int height;
+   private long n;
+   private int min;
+   private int max;
+
+   // sorted (value, cumulative weight) view, rebuilt lazily
+   private int[] sortedValues;
+   private long[] sortedWeights;
+
+
+   /** Creates an empty sketch with accuracy parameter DEFAULT_K. */
+   public KllIntSketch() {
+      this(DEFAULT_K);
+   }
+
+
+   /**
+    * Creates an empty sketch with accuracy parameter k. Larger k gives
+    * smaller error and uses proportionally more memory. This
+    * constructor throws IllegalArgumentException if k < MIN_K.
+    */
+   public KllIntSketch(int k) {
+      this(k, new Random());
+   }
+
+
+   /**
+    * Creates an empty sketch with accuracy parameter k whose
+    * compaction choices come from rng, for repeatable results.
+    */
+   public KllIntSketch(int k, Random rng) {
+      if ((k < MIN_K) || (rng == null)) {
+         throw new IllegalArgumentException();
+      }
+      this.k = k;
+      this.rng = rng;
+      levels = new int[1][];
+      sizes = new int[1];
+      height = 0;
+      addLevel();
+   }
+
+
+   /**
+    * Creates an empty sketch sized so that its rank error is about
+    * epsilon. This method throws IllegalArgumentException unless
+    * 0 < epsilon < 1.
+    */
+   public static KllIntSketch forError(double epsilon) {
+      if (!(epsilon > 0 && epsilon < 1)) {
+         throw new IllegalArgumentException();
+      }
+      int k = (int) Math.ceil(Math.pow(ERROR_SCALE / epsilon, 1 / ERROR_EXPONENT));
+      return new KllIntSketch(Math.max(k, MIN_K));
+   }
+
+
+   /**
+    * Returns a sketch of the values in a with accuracy parameter k.
+    * This method throws IllegalArgumentException if a is null. The
+    * array a is not changed by this method.
+    */
+   public static KllIntSketch of(int[] a, int k) {
+      if (a == null) {
+         throw new IllegalArgumentException();
+      }
+      KllIntSketch sketch = new KllIntSketch(k);
+      for (int value : a) {
+         sketch.update(value);
+      }
+      return sketch;
+   }
+
+
+   /** Adds one value to the sketch. */
+   public void update(int value) {
+      if (n == 0 || value < min) {
+         min = value;
+      }
+      if (n == 0 || value > max) {
+         max = value;
+      }
+      n++;
+      append(0, value);
+      compress();
+      sortedValues = null;
+   }
+
+
+   /**
+    * Folds the contents of other into this sketch; other is not
+    * changed. The result answers queries over the union of both
+    * inputs; other may be this sketch, which then counts every value
+    * twice. This method throws IllegalArgumentException if other is
+    * null.
+    */
+   public void merge(KllIntSketch other) {
+      if (other == null) {
+         throw new IllegalArgumentException();
+      }
+      if (other.n == 0) {
+         return;
+      }
+      if (n == 0 || other.min < min) {
+         min = other.min;
+      }
+      if (n == 0 || other.max > max) {
+         max = other.max;
+      }
+      // snapshot other first, since appending to this grows other
+      // too when the two are the same sketch
+      int[][] items = new int[other.height][];
+      for (int h = 0; h < items.length; h++) {
+         items[h] = Arrays.copyOf(other.levels[h], other.sizes[h]);
+      }
+      n += other.n;
+      for (int h = 0; h < items.length; h++) {
+         for (int i = 0; i < items[h].length; i++) {
+            append(h, items[h][i]);
+         }
+      }
+      compress();
+      sortedValues = null;
+   }
+
+
+   /** Returns the accuracy parameter of this sketch. */
+   public int k() {
+      return k;
+   }
+
+
+   /** Returns the number of values added, counting duplicates. */
+   public long n() {
+      return n;
+   }
+
+
+   /** Returns true if no values have been added. */
+   public boolean isEmpty() {
+      return n == 0;
+   }
+
+
+   /** Returns the number of values the sketch currently retains. */
+   public int retained() {
+      int total = 0;
+      for (int h = 0; h < height; h++) {
+         total += sizes[h];
+      }
+      return total;
+   }
+
+
+   /**
+    * Returns the approximate rank error of a sketch with this k, as a
+    * fraction of n.
+    */
+   public double epsilon() {
+      return ERROR_SCALE / Math.pow(k, ERROR_EXPONENT);
+   }
+
+
+   /**
+    * Returns the exact minimum value added. This method throws
+    * IllegalArgumentException if the sketch is empty.
+    */
+   public int min() {
+      if (n == 0) {
+         throw new IllegalArgumentException();
+      }
+      return min;
+   }
+
+
+   /**
+    * Returns the exact maximum value added. This method throws
+    * IllegalArgumentException if the sketch is empty.
+    */
+   public int max() {
+      if (n == 0) {
+         throw new IllegalArgumentException();
+      }
+      return max;
+   }
+
+
+   /**
+    * Returns the approximate number of values added that are less
+    * than or equal to value.
+    */
+   public long rank(int value) {
+      if (n == 0) {
+         return 0;
+      }
+      buildSorted();
+      int lo = 0;
+      int hi = sortedValues.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (sortedValues[mid] <= value) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return (lo == 0) ? 0 : sortedWeights[lo - 1];
+   }
+
+
+   /**
+    * Returns the approximate number of values added that are in the
+    * range [low..high].
+    */
+   public long rangeCount(int low, int high) {
+      if (low > high) {
+         return 0;
+      }
+      long below = (low == Integer.MIN_VALUE) ? 0 : rank(low - 1);
+      return rank(high) - below;
+   }
+
+
+   /**
+    * Returns an approximation of the kth smallest value added,
+    * counting duplicates. This method throws IllegalArgumentException
+    * if k < 1 or k > n().
+    */
+   public int kmin(long k) {
+      if (k < 1 || k > n) {
+         throw new IllegalArgumentException();
+      }
+      if (k == 1) {
+         return min;
+      }
+      if (k == n) {
+         return max;
+      }
+      buildSorted();
+      int lo = 0;
+      int hi = sortedWeights.length - 1;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (sortedWeights[mid] < k) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return sortedValues[lo];
+   }
+
+
+   /**
+    * Returns an approximation of the kth largest value added,
+    * counting duplicates. This method throws IllegalArgumentException
+    * if k < 1 or k > n().
+    */
+   public int kmax(long k) {
+      if (k < 1 || k > n) {
+         throw new IllegalArgumentException();
+      }
+      return kmin(n - k + 1);
+   }
+
+
+   /**
+    * Returns an approximation of the value at fraction phi of the
+    * sorted data, where 0 is the minimum and 1 the maximum. This method
+    * throws IllegalArgumentException if the sketch is empty or phi is
+    * outside [0, 1].
+    */
+   public int quantile(double phi) {
+      if (n == 0 || !(phi >= 0 && phi <= 1)) {
+         throw new IllegalArgumentException();
+      }
+      return kmin(Math.max(1, (long) Math.ceil(phi * n)));
+   }
+
+
+   /** Returns the capacity of level h in a stack of the given height. */
+   private int capacity(int h, int stackHeight) {
+      int depth = stackHeight - h - 1;
+      return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(SHRINK, depth)));
+   }
+
+
+   /** Appends value to level h, growing its storage as needed. */
+   private void append(int h, int value) {
+      while (h >= height) {
+         addLevel();
+      }
+      if (sizes[h] == levels[h].length) {
+         levels[h] = Arrays.copyOf(levels[h], Math.max(2 * levels[h].length, 4));
+      }
+      levels[h][sizes[h]++] = value;
+   }
+
+
+   /** Adds an empty level on top of the stack. */
+   private void addLevel() {
+      if (height == levels.length) {
+         levels = Arrays.copyOf(levels, 2 * height);
+         sizes = Arrays.copyOf(sizes, 2 * height);
+      }
+      height++;
+      capacities = new int[height];
+      for (int h = 0; h < height; h++) {
+         capacities[h] = capacity(h, height);
+      }
+      levels[height - 1] = new int[capacities[height - 1]];
+      sizes[height - 1] = 0;
+   }
+
+
+   /**
+    * Compacts full levels, bottom up, until every level is within its
+    * capacity.
+    */
+   private void compress() {
+      for (int h = 0; h < height; h++) {
+         if (sizes[h] >= capacities[h]) {
+            compact(h);
+         }
+      }
+   }
+
+
+   /**
+    * Sorts level h and promotes every other value, starting at a random
+    * offset, to level h + 1. An odd value out stays on level h.
+    */
+   private void compact(int h) {
+      int[] items = levels[h];
+      int size = sizes[h];
+      Arrays.sort(items, 0, size);
+      int keep = size & 1;
+      int offset = rng.nextBoolean() ? 1 : 0;
+      int kept = (keep == 1) ? items[size - 1] : 0;
+      for (int i = offset; i < size - keep; i += 2) {
+         append(h + 1, items[i]);
+      }
+      items = levels[h];
+      sizes[h] = 0;
+      if (keep == 1) {
+         items[sizes[h]++] = kept;
+      }
+   }
+
+
+   /** Builds the sorted value/cumulative-weight view if it is stale. */
+   private void buildSorted() {
+      if (sortedValues != null) {
+         return;
+      }
+      int total = retained();
+      long[] packed = new long[total];
+      int j = 0;
+      for (int h = 0; h < height; h++) {
+         for (int i = 0; i < sizes[h]; i++) {
+            // value in the high word, level in the low word
+            packed[j++] = ((long) levels[h][i] << 32) | h;
+         }
+      }
+      Arrays.sort(packed);
+      sortedValues = new int[total];
+      sortedWeights = new long[total];
+      long cumulative = 0;
+      for (int i = 0; i < total; i++) {
+         sortedValues[i] = (int) (packed[i] >> 32);
+         cumulative += 1L << (int) (packed[i] & 0xFFFFFFFFL);
+         sortedWeights[i] = cumulative;
+      }
+   }
+}
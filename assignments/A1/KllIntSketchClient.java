@@ -0,0 +1,74 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Measures the accuracy and memory of KllIntSketch for a range of k.
+ * For each k it sketches the same data in several partitions, merges
+ * the partial sketches, and reports the retained size against the
+ * worst observed rank error over a grid of quantiles.
+ *
+ * Usage: java KllIntSketchClient [n] [partitions]
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class KllIntSketchClient {
+
+   // quantiles checked per sketch
+   private static final int GRID = 1000;
+
+   /** Drives execution. */
+   public static void main(String[] args) {
+      int n = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000_000;
+      int parts = (args.length > 1) ? Integer.parseInt(args[1]) : 8;
+      Random rng = new Random(2210);
+      int[] a = new int[n];
+      for (int i = 0; i < n; i++) {
+         // skewed, latency-like data with many duplicates
+         a[i] = (int) Math.min(Integer.MAX_VALUE, Math.exp(rng.nextGaussian() * 2 + 8));
+      }
+      int[] sorted = a.clone();
+      Arrays.sort(sorted);
+
+      System.out.println("n = " + n + ", partitions = " + parts);
+      System.out.println("k, retained, bytes, predicted eps, max rank error");
+      for (int k = 16; k <= 1024; k *= 2) {
+         KllIntSketch merged = new KllIntSketch(k, new Random(k));
+         int chunk = (n + parts - 1) / parts;
+         for (int p = 0; p < parts; p++) {
+            KllIntSketch part = new KllIntSketch(k, new Random(k + p + 1));
+            for (int i = p * chunk; i < Math.min(n, (p + 1) * chunk); i++) {
+               part.update(a[i]);
+            }
+            merged.merge(part);
+         }
+         double worst = 0;
+         for (int q = 1; q < GRID; q++) {
+            int value = sorted[(int) ((long) q * (n - 1) / GRID)];
+            long estimate = merged.rank(value);
+            long exact = upperBound(sorted, value);
+            worst = Math.max(worst, Math.abs(estimate - exact) / (double) n);
+         }
+         System.out.printf("%d, %d, %d, %.4f, %.4f%n", k, merged.retained(),
+            merged.retained() * Integer.BYTES, merged.epsilon(), worst);
+      }
+   }
+
+   /** Returns the number of values in sorted that are <= value. */
+   private static long upperBound(int[] sorted, int value) {
+      int lo = 0;
+      int hi = sorted.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (sorted[mid] <= value) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+}
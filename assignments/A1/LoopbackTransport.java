@@ -0,0 +1,101 @@
+/**
+ * A ShardTransport whose shards are in-process ShardWorkers, for tests
+ * and single-machine use. It counts the requests and the values sent
+ * back so that the cost of a selection can be checked.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class LoopbackTransport implements ShardTransport {
+
+   private final ShardWorker[] workers;
+   private long requests;
+   private long valuesSent;
+
+
+   /**
+    * Creates a transport over the given workers. This constructor
+    * throws IllegalArgumentException if workers is null or contains
+    * null.
+    */
+   public LoopbackTransport(ShardWorker... workers) {
+      if (workers == null) {
+         throw new IllegalArgumentException();
+      }
+      for (ShardWorker w : workers) {
+         if (w == null) {
+            throw new IllegalArgumentException();
+         }
+      }
+      this.workers = workers.clone();
+   }
+
+
+   /**
+    * Creates a transport with one worker per shard. This method throws
+    * IllegalArgumentException if shards is null or contains null.
+    */
+   public static LoopbackTransport of(int[]... shards) {
+      if (shards == null) {
+         throw new IllegalArgumentException();
+      }
+      ShardWorker[] workers = new ShardWorker[shards.length];
+      for (int i = 0; i < shards.length; i++) {
+         workers[i] = new ShardWorker(shards[i]);
+      }
+      return new LoopbackTransport(workers);
+   }
+
+
+   @Override
+   public int shards() {
+      return workers.length;
+   }
+
+
+   @Override
+   public long size(int shard) {
+      requests++;
+      valuesSent++;
+      return workers[shard].size();
+   }
+
+
+   @Override
+   public int[] bounds(int shard) {
+      requests++;
+      valuesSent += 2;
+      return workers[shard].bounds();
+   }
+
+
+   @Override
+   public long[] countBelow(int shard, int[] pivots) {
+      requests++;
+      long[] counts = workers[shard].countBelow(pivots);
+      valuesSent += counts.length;
+      return counts;
+   }
+
+
+   @Override
+   public int[] candidates(int shard, int low, int high) {
+      requests++;
+      int[] values = workers[shard].candidates(low, high);
+      valuesSent += values.length;
+      return values;
+   }
+
+
+   /** Returns the number of requests made so far. */
+   public long requests() {
+      return requests;
+   }
+
+
+   /** Returns the number of values sent back so far. */
+   public long valuesSent() {
+      return valuesSent;
+   }
+}
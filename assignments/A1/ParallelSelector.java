@@ -0,0 +1,229 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join versions of the Selector scans min, max, and range.
+ *
+ * Each scan splits the array in half recursively until a piece is no
+ * longer than the sequential threshold, then scans the pieces in
+ * parallel. range runs in two phases: a parallel count that keeps the
+ * tree of per-piece counts, then a parallel scatter that uses the
+ * prefix sums of those counts to write every piece straight into one
+ * exactly-sized result array. The results, including the order of the
+ * values returned by range, are identical to Selector's.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class ParallelSelector {
+
+   /** Piece size used by Selector.parallel(). */
+   public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+   private final ForkJoinPool pool;
+   private final int threshold;
+
+
+   /**
+    * Creates a selector that runs its scans in pool and stops
+    * splitting at pieces of threshold elements. This constructor
+    * throws IllegalArgumentException if pool is null or threshold is
+    * less than 1.
+    */
+   public ParallelSelector(ForkJoinPool pool, int threshold) {
+      if ((pool == null) || (threshold < 1)) {
+         throw new IllegalArgumentException();
+      }
+      this.pool = pool;
+      this.threshold = threshold;
+   }
+
+
+   /**
+    * Returns a selector that uses the same pool as this one and the
+    * given sequential threshold.
+    */
+   public ParallelSelector withThreshold(int threshold) {
+      return new ParallelSelector(pool, threshold);
+   }
+
+
+   /** Returns the sequential threshold of this selector. */
+   public int threshold() {
+      return threshold;
+   }
+
+
+   /**
+    * Selects the minimum value from the array a. This method throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this method.
+    */
+   public int min(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      return pool.invoke(new Extreme(a, 0, a.length, false, threshold));
+   }
+
+
+   /**
+    * Selects the maximum value from the array a. This method throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this method.
+    */
+   public int max(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      return pool.invoke(new Extreme(a, 0, a.length, true, threshold));
+   }
+
+
+   /**
+    * Returns an array containing all the values in a in the range
+    * [low..high], including duplicates, in the order they appear in
+    * a. If there are no qualifying values, this method returns a
+    * zero-length array. This method throws IllegalArgumentException
+    * if a is null or has zero length. The array a is not changed by
+    * this method.
+    */
+   public int[] range(int[] a, int low, int high) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      Count root = new Count(a, 0, a.length, low, high, threshold);
+      int total = pool.invoke(root);
+      int[] result = new int[total];
+      if (total > 0) {
+         pool.invoke(new Scatter(root, result, 0));
+      }
+      return result;
+   }
+
+
+   /** Finds the minimum or maximum of a[lo..hi). */
+   @SuppressWarnings("serial")
+   private static final class Extreme extends RecursiveTask<Integer> {
+      private final int[] a;
+      private final int lo;
+      private final int hi;
+      private final boolean max;
+      private final int threshold;
+
+      Extreme(int[] a, int lo, int hi, boolean max, int threshold) {
+         this.a = a;
+         this.lo = lo;
+         this.hi = hi;
+         this.max = max;
+         this.threshold = threshold;
+      }
+
+      @Override
+      protected Integer compute() {
+         if (hi - lo <= threshold) {
+            int value = a[lo];
+            for (int i = lo + 1; i < hi; i++) {
+               if (max ? a[i] > value : a[i] < value) {
+                  value = a[i];
+               }
+            }
+            return value;
+         }
+         int mid = (lo + hi) >>> 1;
+         Extreme left = new Extreme(a, lo, mid, max, threshold);
+         left.fork();
+         int right = new Extreme(a, mid, hi, max, threshold).compute();
+         int value = left.join();
+         return max ? Math.max(value, right) : Math.min(value, right);
+      }
+   }
+
+
+   /**
+    * Counts the values of a[lo..hi) in [low..high], keeping the
+    * subtree of counts for the scatter phase.
+    */
+   @SuppressWarnings("serial")
+   private static final class Count extends RecursiveTask<Integer> {
+      private final int[] a;
+      private final int lo;
+      private final int hi;
+      private final int low;
+      private final int high;
+      private final int threshold;
+      private Count left;
+      private Count right;
+      private int count;
+
+      Count(int[] a, int lo, int hi, int low, int high, int threshold) {
+         this.a = a;
+         this.lo = lo;
+         this.hi = hi;
+         this.low = low;
+         this.high = high;
+         this.threshold = threshold;
+      }
+
+      @Override
+      protected Integer compute() {
+         if (hi - lo <= threshold) {
+            int num = 0;
+            for (int i = lo; i < hi; i++) {
+               if (a[i] >= low && a[i] <= high) {
+                  num++;
+               }
+            }
+            count = num;
+            return count;
+         }
+         int mid = (lo + hi) >>> 1;
+         left = new Count(a, lo, mid, low, high, threshold);
+         right = new Count(a, mid, hi, low, high, threshold);
+         left.fork();
+         int r = right.compute();
+         count = left.join() + r;
+         return count;
+      }
+   }
+
+
+   /**
+    * Writes the qualifying values under a Count node into result,
+    * starting at offset.
+    */
+   @SuppressWarnings("serial")
+   private static final class Scatter extends RecursiveAction {
+      private final Count node;
+      private final int[] result;
+      private final int offset;
+
+      Scatter(Count node, int[] result, int offset) {
+         this.node = node;
+         this.result = result;
+         this.offset = offset;
+      }
+
+      @Override
+      protected void compute() {
+         if (node.count == 0) {
+            return;
+         }
+         if (node.left == null) {
+            int[] a = node.a;
+            int k = offset;
+            for (int i = node.lo; i < node.hi; i++) {
+               if (a[i] >= node.low && a[i] <= node.high) {
+                  result[k] = a[i];
+                  k++;
+               }
+            }
+            return;
+         }
+         invokeAll(new Scatter(node.left, result, offset),
+            new Scatter(node.right, result, offset + node.left.count));
+      }
+   }
+}
@@ -0,0 +1,68 @@
+import java.util.Random;
+
+/**
+ * Times Selector against Selector.parallel() on arrays of doubling
+ * size and reports the first size at which the parallel version wins.
+ *
+ * Usage: java ParallelSelectorClient [maxSize] [threshold]
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class ParallelSelectorClient {
+
+   // to convert from nanoseconds to milliseconds
+   private static final double MILLIS = 1_000_000d;
+
+   // timed repetitions per size; the best one is reported
+   private static final int REPS = 5;
+
+   /** Drives execution. */
+   public static void main(String[] args) {
+      int maxSize = (args.length > 0) ? Integer.parseInt(args[0]) : 1 << 26;
+      ParallelSelector parallel = Selector.parallel();
+      if (args.length > 1) {
+         parallel = parallel.withThreshold(Integer.parseInt(args[1]));
+      }
+      Random rng = new Random(2210);
+      int crossover = -1;
+      System.out.println("n, seq min ms, par min ms, seq range ms, par range ms");
+      for (int n = 1 << 10; n > 0 && n <= maxSize; n *= 2) {
+         int[] a = new int[n];
+         for (int i = 0; i < n; i++) {
+            a[i] = rng.nextInt();
+         }
+         int low = -(1 << 30);
+         int high = 1 << 30;
+         double seqMin = Double.MAX_VALUE;
+         double parMin = Double.MAX_VALUE;
+         double seqRange = Double.MAX_VALUE;
+         double parRange = Double.MAX_VALUE;
+         for (int r = 0; r < REPS; r++) {
+            long t0 = System.nanoTime();
+            Selector.min(a);
+            long t1 = System.nanoTime();
+            parallel.min(a);
+            long t2 = System.nanoTime();
+            Selector.range(a, low, high);
+            long t3 = System.nanoTime();
+            parallel.range(a, low, high);
+            long t4 = System.nanoTime();
+            seqMin = Math.min(seqMin, (t1 - t0) / MILLIS);
+            parMin = Math.min(parMin, (t2 - t1) / MILLIS);
+            seqRange = Math.min(seqRange, (t3 - t2) / MILLIS);
+            parRange = Math.min(parRange, (t4 - t3) / MILLIS);
+         }
+         System.out.printf("%d, %.3f, %.3f, %.3f, %.3f%n",
+            n, seqMin, parMin, seqRange, parRange);
+         if (crossover < 0 && parMin < seqMin && parRange < seqRange) {
+            crossover = n;
+         }
+      }
+      System.out.println("threshold = " + parallel.threshold()
+         + ", parallel wins from n = "
+         + ((crossover < 0) ? "(never)" : String.valueOf(crossover)));
+   }
+
+}
@@ -0,0 +1,76 @@
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Reports the bytes allocated per call by the range variants of
+ * Selector in a tight polling loop, using the per-thread allocation
+ * counter of the HotSpot ThreadMXBean. After warmup, rangeInto and
+ * rangeCount should report 0 B/op while range allocates its result.
+ *
+ * Usage: java RangeAllocationClient [n] [calls]
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class RangeAllocationClient {
+
+   // labels for the methods measured, in loop order
+   private static final String[] NAMES =
+      {"range", "rangeInto(int[])", "rangeInto(IntAccumulator)", "rangeCount"};
+
+   // keeps results live so the calls are not optimized away
+   private static long sink;
+
+   /** Drives execution. */
+   public static void main(String[] args) {
+      int n = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000;
+      int calls = (args.length > 1) ? Integer.parseInt(args[1]) : 100_000;
+      Random rng = new Random(2210);
+      int[] a = new int[n];
+      for (int i = 0; i < n; i++) {
+         a[i] = rng.nextInt(1000);
+      }
+      int[] dest = new int[n];
+      IntAccumulator acc = new IntAccumulator();
+
+      com.sun.management.ThreadMXBean threads =
+         (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      long id = Thread.currentThread().getId();
+
+      System.out.println("method, B/op, ns/op");
+      for (int round = 0; round < 2; round++) {
+         boolean report = round == 1;
+         for (int method = 0; method < 4; method++) {
+            long bytes = threads.getThreadAllocatedBytes(id);
+            long start = System.nanoTime();
+            for (int c = 0; c < calls; c++) {
+               int low = c % 500;
+               int high = low + 250;
+               switch (method) {
+                  case 0:
+                     sink += Selector.range(a, low, high).length;
+                     break;
+                  case 1:
+                     sink += Selector.rangeInto(a, low, high, dest, 0);
+                     break;
+                  case 2:
+                     acc.clear();
+                     sink += Selector.rangeInto(a, low, high, acc);
+                     break;
+                  default:
+                     sink += Selector.rangeCount(a, low, high);
+                     break;
+               }
+            }
+            long elapsed = System.nanoTime() - start;
+            bytes = threads.getThreadAllocatedBytes(id) - bytes;
+            if (report) {
+               System.out.printf("%s, %.1f, %.1f%n", NAMES[method],
+                  bytes / (double) calls, elapsed / (double) calls);
+            }
+         }
+      }
+      System.out.println("(checksum " + sink + ")");
+   }
+}
@@ -1,4 +1,8 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
 * Defines a library of selection methods
@@ -20,6 +24,29 @@ public final class Selector {
    private Selector() { }
 
 
+   /**
+    * Number of matching values above which range(IntBuffer, int, int)
+    * returns an off-heap buffer instead of a heap one.
+    */
+   public static final int RANGE_SPILL = 1 << 20;
+
+   // batches of more ranks than this are answered by a full distinct sort
+   private static final int SORT_RANKS = 32;
+
+   // arrays at least this long are radix sorted rather than hashed
+   private static final int RADIX_MIN = 1 << 12;
+
+
+   /**
+    * Returns a ParallelSelector that runs min, max, and range on the
+    * common fork/join pool with the default sequential threshold.
+    */
+   public static ParallelSelector parallel() {
+      return new ParallelSelector(ForkJoinPool.commonPool(),
+         ParallelSelector.DEFAULT_THRESHOLD);
+   }
+
+
    /**
     * Selects the minimum value from the array a. This method
     * throws IllegalArgumentException if a is null or has zero
@@ -78,40 +105,10 @@ public final class Selector {
       if ((a == null) || (a.length == 0)) {
          throw new IllegalArgumentException();
       }
-      
-      int[] newArray = a.clone();
-      Arrays.sort(newArray);
-         
-      int counter = 0;
-      
-      for (int i = 1; i < a.length; i++) {
-         if ( newArray[i] == newArray[i - 1]) {
-            newArray[i - 1] = 0;
-         }
-      }
-       
-      for (int i = 0; i < newArray.length; i++) {
-         if ( newArray[i] != 0) {
-            counter++;
-         }
-      }
-     
-      int[] finalArray = new int[counter];
-      int j = 0;
-     
-      for (int i = 0; i < newArray.length; i++) {
-         if (newArray[i] != 0) {
-            finalArray[j] = newArray[i]; 
-            j++;
-         }
-      }
-     
-      if (k < 1 || k > finalArray.length) {
+      if (k < 1 || k > a.length) {
          throw new IllegalArgumentException();
       }
-     
-      return finalArray[k - 1];
-       
+      return distinctRank(a, k, false);
    }
 
 
@@ -127,39 +124,139 @@ public final class Selector {
       if ((a == null) || (a.length == 0)) {
          throw new IllegalArgumentException();
       }
-      
-      int[] newArray = a.clone();
-      Arrays.sort(newArray);
-         
-      int counter = 0;
-      
-      for (int i = 1; i < a.length; i++) {
-         if ( newArray[i] == newArray[i - 1]) {
-            newArray[i - 1] = 0;
-         }
+      if (k < 1 || k > a.length) {
+         throw new IllegalArgumentException();
       }
-       
-      for (int i = 0; i < newArray.length; i++) {
-         if ( newArray[i] != 0) {
-            counter++;
+      return distinctRank(a, k, true);
+   }
+
+
+   /**
+    * Shared body of kmin and kmax: returns the value with the given
+    * distinct rank, counted from the top if fromMax. When the values
+    * span a small range compared to their number, a presence bitmap
+    * ranks them in linear time. Otherwise large arrays are radix
+    * sorted with duplicates dropped, and small ones are hashed and
+    * introselected.
+    */
+   private static int distinctRank(int[] a, int k, boolean fromMax) {
+      int[] bounds = bounds(a);
+      int low = bounds[0];
+      int high = bounds[1];
+      if (IntRadix.isDense(a.length, low, high)) {
+         long[] bits = IntRadix.presence(a, low, high);
+         int count = IntRadix.cardinality(bits);
+         if (k > count) {
+            throw new IllegalArgumentException();
          }
+         return IntRadix.selectPresent(bits, low, fromMax ? count - k : k - 1);
       }
-     
-      int[] finalArray = new int[counter];
-      int j = 0;
-     
-      for (int i = 0; i < newArray.length; i++) {
-         if (newArray[i] != 0) {
-            finalArray[j] = newArray[i]; 
-            j++;
+      if (a.length >= RADIX_MIN) {
+         int[] sorted = new int[a.length];
+         int count = IntRadix.radixDistinct(a, sorted);
+         if (k > count) {
+            throw new IllegalArgumentException();
          }
+         return sorted[fromMax ? count - k : k - 1];
       }
-     
-      if (k < 1 || k > finalArray.length) {
+      int[] table = IntSelect.table(a.length);
+      int count = IntSelect.distinct(a, table);
+      if (k > count) {
          throw new IllegalArgumentException();
       }
-     
-      return finalArray[finalArray.length - k];
+      return IntSelect.select(table, 0, count - 1, fromMax ? count - k : k - 1);
+   }
+
+
+   /**
+    * Returns the smallest and largest values of the non-empty array a,
+    * found in one pass.
+    */
+   private static int[] bounds(int[] a) {
+      int low = a[0];
+      int high = a[0];
+      for (int i = 1; i < a.length; i++) {
+         low = Math.min(low, a[i]);
+         high = Math.max(high, a[i]);
+      }
+      return new int[] {low, high};
+   }
+
+
+   /**
+    * Selects the kth minimum value from the array a for every k in ks,
+    * returning the results in the same order as ks. All ranks are
+    * answered together from one working copy of a, which is much
+    * cheaper than calling kmin once per rank. This method throws
+    * IllegalArgumentException if a or ks is null, if a has zero
+    * length, or if there is no kth minimum value for any of the ks.
+    * The array a is not changed by this method.
+    */
+   public static int[] kmins(int[] a, int... ks) {
+      return kselect(a, ks, false);
+   }
+
+
+   /**
+    * Selects the kth maximum value from the array a for every k in ks,
+    * returning the results in the same order as ks. All ranks are
+    * answered together from one working copy of a, which is much
+    * cheaper than calling kmax once per rank. This method throws
+    * IllegalArgumentException if a or ks is null, if a has zero
+    * length, or if there is no kth maximum value for any of the ks.
+    * The array a is not changed by this method.
+    */
+   public static int[] kmaxs(int[] a, int... ks) {
+      return kselect(a, ks, true);
+   }
+
+
+   /**
+    * Shared body of kmins and kmaxs. Converts each k into a 0-based
+    * rank among the distinct values of a. Large arrays, dense data,
+    * and large batches are answered from a linear-time distinct sort;
+    * a few ranks over a small, sparse array are multiselected instead.
+    */
+   private static int[] kselect(int[] a, int[] ks, boolean fromMax) {
+      if ((a == null) || (a.length == 0) || (ks == null)) {
+         throw new IllegalArgumentException();
+      }
+      int[] table;
+      int count;
+      int[] bounds = bounds(a);
+      boolean sorted = (ks.length > SORT_RANKS) || (a.length >= RADIX_MIN)
+         || IntRadix.isDense(a.length, bounds[0], bounds[1]);
+      if (sorted) {
+         table = new int[a.length];
+         count = IntRadix.sortDistinct(a, table, bounds[0], bounds[1]);
+      }
+      else {
+         table = IntSelect.table(a.length);
+         count = IntSelect.distinct(a, table);
+      }
+      int[] ranks = new int[ks.length];
+      for (int i = 0; i < ks.length; i++) {
+         if (ks[i] < 1 || ks[i] > count) {
+            throw new IllegalArgumentException();
+         }
+         ranks[i] = fromMax ? count - ks[i] : ks[i] - 1;
+      }
+      if (!sorted) {
+         int[] targets = ranks.clone();
+         Arrays.sort(targets);
+         int unique = 0;
+         for (int i = 0; i < targets.length; i++) {
+            if (unique == 0 || targets[unique - 1] != targets[i]) {
+               targets[unique++] = targets[i];
+            }
+         }
+         IntSelect.multiselect(table, 0, count - 1, targets, 0, unique - 1);
+      }
+      int[] result = new int[ks.length];
+      for (int i = 0; i < ks.length; i++) {
+         result[i] = table[ranks[i]];
+      }
+      return result;
    }
 
 
@@ -197,6 +294,79 @@ public final class Selector {
    }
    
 
+   /**
+    * Writes all the values in a in the range [low..high], including
+    * duplicates, into dest starting at destOff, in the order they
+    * appear in a, and returns how many were written. The array a is
+    * scanned once and nothing is allocated. This method throws
+    * IllegalArgumentException if a or dest is null, if a has zero
+    * length, if destOff is outside [0..dest.length], or if dest runs
+    * out of room; in the last case dest may already have been partly
+    * written. The array a is not changed by this method.
+    */
+   public static int rangeInto(int[] a, int low, int high, int[] dest, int destOff) {
+      if ((a == null) || (a.length == 0) || (dest == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (destOff < 0 || destOff > dest.length) {
+         throw new IllegalArgumentException();
+      }
+      int k = destOff;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            if (k == dest.length) {
+               throw new IllegalArgumentException();
+            }
+            dest[k] = a[i];
+            k++;
+         }
+      }
+      return k - destOff;
+   }
+
+
+   /**
+    * Appends all the values in a in the range [low..high], including
+    * duplicates, to out in the order they appear in a, and returns how
+    * many were appended. The array a is scanned once, and nothing is
+    * allocated unless out has to grow. This method throws
+    * IllegalArgumentException if a or out is null or if a has zero
+    * length. The array a is not changed by this method.
+    */
+   public static int rangeInto(int[] a, int low, int high, IntAccumulator out) {
+      if ((a == null) || (a.length == 0) || (out == null)) {
+         throw new IllegalArgumentException();
+      }
+      int before = out.size();
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            out.add(a[i]);
+         }
+      }
+      return out.size() - before;
+   }
+
+
+   /**
+    * Returns the number of values in a in the range [low..high],
+    * including duplicates, without allocating. This method throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this method.
+    */
+   public static int rangeCount(int[] a, int low, int high) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      int num = 0;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            num++;
+         }
+      }
+      return num;
+   }
+
+
    /**
     * Returns the smallest value in a that is greater than or equal to
     * the given key. This method throws an IllegalArgumentException if
@@ -231,4 +401,297 @@ public final class Selector {
       int final1 = max(ab);
       return final1;
    }
+
+
+   /**
+    * Returns the ceiling in a of every key in keys, in the same order
+    * as keys; that is, element i of the result is ceiling(a, keys[i]).
+    * Both arrays are sorted once and answered in one merge sweep, so q
+    * keys cost O(n + q log q) instead of q separate scans. This
+    * method throws IllegalArgumentException if a or keys is null, if a
+    * has zero length, or if any key has no qualifying value. Neither
+    * array is changed by this method.
+    */
+   public static int[] ceilings(int[] a, int[] keys) {
+      return sweep(a, keys, true, 0, true);
+   }
+
+
+   /**
+    * Same as ceilings(a, keys), except that keys with no qualifying
+    * value get absent in the result instead of causing an exception.
+    */
+   public static int[] ceilings(int[] a, int[] keys, int absent) {
+      return sweep(a, keys, true, absent, false);
+   }
+
+
+   /**
+    * Returns the floor in a of every key in keys, in the same order as
+    * keys; that is, element i of the result is floor(a, keys[i]). Both
+    * arrays are sorted once and answered in one merge sweep, so q keys
+    * cost O(n + q log q) instead of q separate scans. This method
+    * throws IllegalArgumentException if a or keys is null, if a has
+    * zero length, or if any key has no qualifying value. Neither array
+    * is changed by this method.
+    */
+   public static int[] floors(int[] a, int[] keys) {
+      return sweep(a, keys, false, 0, true);
+   }
+
+
+   /**
+    * Same as floors(a, keys), except that keys with no qualifying
+    * value get absent in the result instead of causing an exception.
+    */
+   public static int[] floors(int[] a, int[] keys, int absent) {
+      return sweep(a, keys, false, absent, false);
+   }
+
+
+   /**
+    * Shared body of ceilings and floors. The keys are sorted together
+    * with their original positions, then walked in step with the
+    * sorted distinct values of a.
+    */
+   private static int[] sweep(int[] a, int[] keys, boolean ceiling,
+                              int absent, boolean strict) {
+      if ((a == null) || (a.length == 0) || (keys == null)) {
+         throw new IllegalArgumentException();
+      }
+      int[] values = new int[a.length];
+      int count = IntRadix.sortDistinct(a, values);
+      // key in the high word, original position in the low word
+      long[] order = new long[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+         order[i] = ((long) keys[i] << 32) | i;
+      }
+      Arrays.sort(order);
+      int[] result = new int[keys.length];
+      int j = ceiling ? 0 : -1;
+      for (int i = 0; i < order.length; i++) {
+         int key = (int) (order[i] >> 32);
+         int at = (int) order[i];
+         boolean found;
+         if (ceiling) {
+            while (j < count && values[j] < key) {
+               j++;
+            }
+            found = j < count;
+         }
+         else {
+            while (j + 1 < count && values[j + 1] <= key) {
+               j++;
+            }
+            found = j >= 0;
+         }
+         if (!found && strict) {
+            throw new IllegalArgumentException();
+         }
+         result[at] = found ? values[j] : absent;
+      }
+      return result;
+   }
+
+   /**
+    * Selects the minimum of the remaining values in the buffer b,
+    * reading them in place. This method throws IllegalArgumentException
+    * if b is null or has no remaining values. Neither the contents nor
+    * the position of b is changed by this method.
+    */
+   public static int min(IntBuffer b) {
+      if ((b == null) || !b.hasRemaining()) {
+         throw new IllegalArgumentException();
+      }
+      int value = b.get(b.position());
+      for (int i = b.position() + 1; i < b.limit(); i++) {
+         if (b.get(i) < value) {
+            value = b.get(i);
+         }
+      }
+      return value;
+   }
+
+
+   /**
+    * Selects the maximum of the remaining values in the buffer b,
+    * reading them in place. This method throws IllegalArgumentException
+    * if b is null or has no remaining values. Neither the contents nor
+    * the position of b is changed by this method.
+    */
+   public static int max(IntBuffer b) {
+      if ((b == null) || !b.hasRemaining()) {
+         throw new IllegalArgumentException();
+      }
+      int value = b.get(b.position());
+      for (int i = b.position() + 1; i < b.limit(); i++) {
+         if (b.get(i) > value) {
+            value = b.get(i);
+         }
+      }
+      return value;
+   }
+
+
+   /**
+    * Selects the kth minimum distinct value from the remaining values
+    * in the buffer b, with the same rules as kmin(int[], int). This
+    * method throws IllegalArgumentException if b is null, has no
+    * remaining values, or if there is no kth minimum value. Neither
+    * the contents nor the position of b is changed by this method.
+    * Large buffers are never copied; they are scanned a few times
+    * instead, with scratch memory bounded whatever their size.
+    */
+   public static int kmin(IntBuffer b, int k) {
+      if ((b == null) || !b.hasRemaining()) {
+         throw new IllegalArgumentException();
+      }
+      if (k < 1 || k > b.remaining()) {
+         throw new IllegalArgumentException();
+      }
+      return IntSelect.kthDistinct(b, k, false);
+   }
+
+
+   /**
+    * Selects the kth maximum distinct value from the remaining values
+    * in the buffer b, with the same rules as kmax(int[], int). This
+    * method throws IllegalArgumentException if b is null, has no
+    * remaining values, or if there is no kth maximum value. Neither
+    * the contents nor the position of b is changed by this method.
+    * Large buffers are never copied; they are scanned a few times
+    * instead, with scratch memory bounded whatever their size.
+    */
+   public static int kmax(IntBuffer b, int k) {
+      if ((b == null) || !b.hasRemaining()) {
+         throw new IllegalArgumentException();
+      }
+      if (k < 1 || k > b.remaining()) {
+         throw new IllegalArgumentException();
+      }
+      return IntSelect.kthDistinct(b, k, true);
+   }
+
+
+   /**
+    * Returns a buffer containing all the remaining values in b that
+    * are in the range [low..high], including duplicates, in the order
+    * they appear in b. The returned buffer is positioned at zero with
+    * its limit at the number of matches. Results of more than
+    * RANGE_SPILL values are placed in a direct (off-heap) buffer so
+    * that large results do not have to fit in the heap. This method
+    * throws IllegalArgumentException if b is null, has no remaining
+    * values, or if there are more matches than one direct buffer can
+    * hold (Integer.MAX_VALUE / Integer.BYTES); use
+    * rangeInto(IntBuffer, int, int, IntBuffer) for those. Neither the
+    * contents nor the position of b is changed by this method.
+    */
+   public static IntBuffer range(IntBuffer b, int low, int high) {
+      if ((b == null) || !b.hasRemaining()) {
+         throw new IllegalArgumentException();
+      }
+      int num = 0;
+      for (int i = b.position(); i < b.limit(); i++) {
+         if (b.get(i) >= low && b.get(i) <= high) {
+            num++;
+         }
+      }
+      if (num > Integer.MAX_VALUE / Integer.BYTES) {
+         throw new IllegalArgumentException();
+      }
+      IntBuffer result;
+      if (num > RANGE_SPILL) {
+         result = ByteBuffer.allocateDirect(num * Integer.BYTES)
+            .order(ByteOrder.nativeOrder()).asIntBuffer();
+      }
+      else {
+         result = IntBuffer.allocate(num);
+      }
+      rangeInto(b, low, high, result);
+      result.flip();
+      return result;
+   }
+
+
+   /**
+    * Writes all the remaining values in b in the range [low..high],
+    * including duplicates, into dest at its position, in the order they
+    * appear in b, and returns how many were written; the position of
+    * dest is advanced past them. The buffer b is scanned once and
+    * nothing is allocated. This method throws IllegalArgumentException
+    * if b or dest is null, if b has no remaining values, or if dest
+    * runs out of room; in the last case dest may already have been
+    * partly written. Neither the contents nor the position of b is
+    * changed by this method.
+    */
+   public static int rangeInto(IntBuffer b, int low, int high, IntBuffer dest) {
+      if ((b == null) || !b.hasRemaining() || (dest == null)) {
+         throw new IllegalArgumentException();
+      }
+      int before = dest.position();
+      for (int i = b.position(); i < b.limit(); i++) {
+         int value = b.get(i);
+         if (value >= low && value <= high) {
+            if (!dest.hasRemaining()) {
+               throw new IllegalArgumentException();
+            }
+            dest.put(value);
+         }
+      }
+      return dest.position() - before;
+   }
+
+
+   /**
+    * Returns the smallest remaining value in b that is greater than or
+    * equal to the given key, found in a single pass. This method
+    * throws IllegalArgumentException if b is null, has no remaining
+    * values, or if there is no qualifying value. Neither the contents
+    * nor the position of b is changed by this method.
+    */
+   public static int ceiling(IntBuffer b, int key) {
+      if ((b == null) || !b.hasRemaining()) {
+         throw new IllegalArgumentException();
+      }
+      boolean found = false;
+      int value = 0;
+      for (int i = b.position(); i < b.limit(); i++) {
+         int v = b.get(i);
+         if (v >= key && (!found || v < value)) {
+            value = v;
+            found = true;
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return value;
+   }
+
+
+   /**
+    * Returns the largest remaining value in b that is less than or
+    * equal to the given key, found in a single pass. This method
+    * throws IllegalArgumentException if b is null, has no remaining
+    * values, or if there is no qualifying value. Neither the contents
+    * nor the position of b is changed by this method.
+    */
+   public static int floor(IntBuffer b, int key) {
+      if ((b == null) || !b.hasRemaining()) {
+         throw new IllegalArgumentException();
+      }
+      boolean found = false;
+      int value = 0;
+      for (int i = b.position(); i < b.limit(); i++) {
+         int v = b.get(i);
+         if (v <= key && (!found || v > value)) {
+            value = v;
+            found = true;
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return value;
+   }
 }
@@ -0,0 +1,44 @@
+/**
+ * Carries the requests a DistributedSelector coordinator sends to the
+ * workers that hold the shards of a distributed int array. Every
+ * method is one round trip to one shard, and every reply is small
+ * except candidates, which the coordinator only requests once the
+ * answer has been narrowed to a few values.
+ *
+ * Implementations decide how requests travel; LoopbackTransport calls
+ * in-process ShardWorkers directly.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public interface ShardTransport {
+
+   /** Returns the number of shards. */
+   int shards();
+
+
+   /** Returns the number of values held by the given shard. */
+   long size(int shard);
+
+
+   /**
+    * Returns {min, max} of the values held by the given shard, which
+    * must not be empty.
+    */
+   int[] bounds(int shard);
+
+
+   /**
+    * Returns, for each of the ascending pivots, the number of values
+    * in the given shard that are strictly less than that pivot.
+    */
+   long[] countBelow(int shard, int[] pivots);
+
+
+   /**
+    * Returns the values in the given shard that are in the range
+    * [low..high], including duplicates, in any order.
+    */
+   int[] candidates(int shard, int low, int high);
+}
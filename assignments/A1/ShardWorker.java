@@ -0,0 +1,79 @@
+import java.util.Arrays;
+
+/**
+ * Holds one shard of a distributed int array and answers the requests
+ * of the DistributedSelector protocol against it. The shard never
+ * leaves the worker; only counts and, at the end of a selection, the
+ * few candidate values near the answer are sent back.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class ShardWorker {
+
+   private final int[] shard;
+
+
+   /**
+    * Creates a worker for the values in shard. The array is used in
+    * place and is not changed. This constructor throws
+    * IllegalArgumentException if shard is null.
+    */
+   public ShardWorker(int[] shard) {
+      if (shard == null) {
+         throw new IllegalArgumentException();
+      }
+      this.shard = shard;
+   }
+
+
+   /** Returns the number of values held. */
+   public long size() {
+      return shard.length;
+   }
+
+
+   /**
+    * Returns {min, max} of the values held. This method throws
+    * IllegalArgumentException if the shard is empty.
+    */
+   public int[] bounds() {
+      return new int[] {Selector.min(shard), Selector.max(shard)};
+   }
+
+
+   /**
+    * Returns, for each of the ascending pivots, the number of values
+    * held that are strictly less than that pivot. The shard is scanned
+    * once, placing each value among the pivots by binary search.
+    */
+   public long[] countBelow(int[] pivots) {
+      // hits[j] counts values in [pivots[j-1], pivots[j])
+      long[] hits = new long[pivots.length + 1];
+      for (int i = 0; i < shard.length; i++) {
+         int j = Arrays.binarySearch(pivots, shard[i]);
+         j = (j >= 0) ? j + 1 : -j - 1;
+         hits[j]++;
+      }
+      long[] counts = new long[pivots.length];
+      long sum = 0;
+      for (int j = 0; j < pivots.length; j++) {
+         sum += hits[j];
+         counts[j] = sum;
+      }
+      return counts;
+   }
+
+
+   /**
+    * Returns the values held in the range [low..high], including
+    * duplicates, in shard order. An empty shard has no candidates.
+    */
+   public int[] candidates(int low, int high) {
+      if (shard.length == 0) {
+         return new int[0];
+      }
+      return Selector.range(shard, low, high);
+   }
+}
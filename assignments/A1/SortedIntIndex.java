@@ -0,0 +1,192 @@
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * An immutable, sorted index over the values of an int array that
+ * answers the same queries as Selector without rescanning the data.
+ * Building the index costs O(n log n); after that min, max, kmin, and
+ * kmax take O(1) and ceiling, floor, and range take O(log n).
+ *
+ * Queries follow the Selector contracts: kmin and kmax rank distinct
+ * values only, and every method that has no qualifying value throws
+ * IllegalArgumentException. The array the index was built from is
+ * copied, so later changes to it are not seen by the index.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class SortedIntIndex {
+
+   // every value of the source, in ascending order
+   private final int[] sorted;
+
+   // the distinct values of the source, in ascending order
+   private final int[] distinct;
+
+
+   /**
+    * Builds an index over the values in a. This constructor throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed.
+    */
+   public SortedIntIndex(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      sorted = a.clone();
+      Arrays.sort(sorted);
+      int count = 1;
+      for (int i = 1; i < sorted.length; i++) {
+         if (sorted[i] != sorted[i - 1]) {
+            count++;
+         }
+      }
+      distinct = new int[count];
+      distinct[0] = sorted[0];
+      int j = 1;
+      for (int i = 1; i < sorted.length; i++) {
+         if (sorted[i] != sorted[i - 1]) {
+            distinct[j++] = sorted[i];
+         }
+      }
+   }
+
+
+   /** Returns the number of values in the index, counting duplicates. */
+   public int size() {
+      return sorted.length;
+   }
+
+
+   /** Returns the number of distinct values in the index. */
+   public int distinctCount() {
+      return distinct.length;
+   }
+
+
+   /** Returns the minimum value in the index. */
+   public int min() {
+      return sorted[0];
+   }
+
+
+   /** Returns the maximum value in the index. */
+   public int max() {
+      return sorted[sorted.length - 1];
+   }
+
+
+   /**
+    * Returns the kth minimum distinct value. This method throws
+    * IllegalArgumentException if k < 1 or k is larger than the
+    * number of distinct values.
+    */
+   public int kmin(int k) {
+      if (k < 1 || k > distinct.length) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[k - 1];
+   }
+
+
+   /**
+    * Returns the kth maximum distinct value. This method throws
+    * IllegalArgumentException if k < 1 or k is larger than the
+    * number of distinct values.
+    */
+   public int kmax(int k) {
+      if (k < 1 || k > distinct.length) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[distinct.length - k];
+   }
+
+
+   /**
+    * Returns the smallest value that is greater than or equal to key.
+    * This method throws IllegalArgumentException if there is no
+    * qualifying value.
+    */
+   public int ceiling(int key) {
+      int i = lowerBound(key);
+      if (i == sorted.length) {
+         throw new IllegalArgumentException();
+      }
+      return sorted[i];
+   }
+
+
+   /**
+    * Returns the largest value that is less than or equal to key.
+    * This method throws IllegalArgumentException if there is no
+    * qualifying value.
+    */
+   public int floor(int key) {
+      int i = upperBound(key);
+      if (i == 0) {
+         throw new IllegalArgumentException();
+      }
+      return sorted[i - 1];
+   }
+
+
+   /**
+    * Returns a read-only view of all the values in the range
+    * [low..high], including duplicates, in ascending order. The view
+    * shares storage with the index, so no values are copied. If there
+    * are no qualifying values, the view has no remaining elements.
+    */
+   public IntBuffer range(int low, int high) {
+      int from = lowerBound(low);
+      int to = (low <= high) ? upperBound(high) : from;
+      return IntBuffer.wrap(sorted, from, Math.max(to - from, 0))
+         .slice().asReadOnlyBuffer();
+   }
+
+
+   /**
+    * Returns the number of values in the range [low..high], including
+    * duplicates.
+    */
+   public int rangeCount(int low, int high) {
+      if (low > high) {
+         return 0;
+      }
+      return upperBound(high) - lowerBound(low);
+   }
+
+
+   /** Returns the index of the first value that is >= key. */
+   private int lowerBound(int key) {
+      int lo = 0;
+      int hi = sorted.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (sorted[mid] < key) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+
+   /** Returns the index of the first value that is > key. */
+   private int upperBound(int key) {
+      int lo = 0;
+      int hi = sorted.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (sorted[mid] <= key) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+}
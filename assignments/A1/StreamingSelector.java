@@ -0,0 +1,313 @@
+import java.util.Random;
+
+/**
+ * Answers the Selector queries min, max, kmin, and kmax over a stream
+ * of ints that arrive one at a time, either over every value seen so
+ * far or over a sliding window of the most recent values.
+ *
+ * The distinct values currently held are kept in an indexable skip
+ * list (each node carries its multiplicity and the number of distinct
+ * values each link skips), so add and kmin/kmax take O(log n) expected
+ * time. In window mode the oldest value is evicted as each new one
+ * arrives, and min and max come from monotonic deques in O(1). As in
+ * Selector, kmin and kmax rank distinct values only, and queries with
+ * no answer throw IllegalArgumentException.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class StreamingSelector {
+
+   private static final int MAX_LEVEL = 32;
+
+   // skip list head; widths of null links count to one past the end
+   private final Node head = new Node(0, MAX_LEVEL);
+   private int level = 1;
+   private int distinct;
+   private final Random rng = new Random();
+
+   // search path scratch shared by insert and remove
+   private final Node[] update = new Node[MAX_LEVEL];
+   private final int[] rank = new int[MAX_LEVEL];
+
+   // window size, or 0 when every value is kept
+   private final int window;
+   private long seen;
+
+   // unbounded mode: running extremes
+   private int min;
+   private int max;
+
+   // window mode: the last window values, in arrival order
+   private int[] ring;
+
+   // window mode: monotonic deques of arrival numbers
+   private long[] minDeque;
+   private long[] maxDeque;
+   private int minHead;
+   private int minSize;
+   private int maxHead;
+   private int maxSize;
+
+
+   /** Creates a selector over every value that is added. */
+   public StreamingSelector() {
+      this.window = 0;
+      for (int i = 0; i < MAX_LEVEL; i++) {
+         head.width[i] = 1;
+      }
+   }
+
+
+   /**
+    * Creates a selector over the most recent window values. This
+    * constructor throws IllegalArgumentException if window < 1.
+    */
+   public StreamingSelector(int window) {
+      if (window < 1) {
+         throw new IllegalArgumentException();
+      }
+      this.window = window;
+      for (int i = 0; i < MAX_LEVEL; i++) {
+         head.width[i] = 1;
+      }
+      ring = new int[window];
+      minDeque = new long[window];
+      maxDeque = new long[window];
+   }
+
+
+   /**
+    * Adds value to the stream, evicting the oldest value first if the
+    * window is full.
+    */
+   public void add(int value) {
+      if (window == 0) {
+         if (seen == 0 || value < min) {
+            min = value;
+         }
+         if (seen == 0 || value > max) {
+            max = value;
+         }
+      }
+      else {
+         if (seen >= window) {
+            remove(ring[(int) (seen % window)]);
+         }
+         ring[(int) (seen % window)] = value;
+         pushDeques(value);
+      }
+      insert(value);
+      seen++;
+   }
+
+
+   /**
+    * Returns the number of values currently held, counting duplicates:
+    * every value added, or at most window of them.
+    */
+   public long size() {
+      return (window == 0) ? seen : Math.min(seen, window);
+   }
+
+
+   /** Returns the number of distinct values currently held. */
+   public int distinctCount() {
+      return distinct;
+   }
+
+
+   /**
+    * Returns the minimum value currently held. This method throws
+    * IllegalArgumentException if no values have been added.
+    */
+   public int min() {
+      if (seen == 0) {
+         throw new IllegalArgumentException();
+      }
+      if (window == 0) {
+         return min;
+      }
+      return ring[(int) (minDeque[minHead] % window)];
+   }
+
+
+   /**
+    * Returns the maximum value currently held. This method throws
+    * IllegalArgumentException if no values have been added.
+    */
+   public int max() {
+      if (seen == 0) {
+         throw new IllegalArgumentException();
+      }
+      if (window == 0) {
+         return max;
+      }
+      return ring[(int) (maxDeque[maxHead] % window)];
+   }
+
+
+   /**
+    * Returns the kth minimum distinct value currently held. This
+    * method throws IllegalArgumentException if there is no kth
+    * minimum value.
+    */
+   public int kmin(int k) {
+      if (k < 1 || k > distinct) {
+         throw new IllegalArgumentException();
+      }
+      return select(k);
+   }
+
+
+   /**
+    * Returns the kth maximum distinct value currently held. This
+    * method throws IllegalArgumentException if there is no kth
+    * maximum value.
+    */
+   public int kmax(int k) {
+      if (k < 1 || k > distinct) {
+         throw new IllegalArgumentException();
+      }
+      return select(distinct - k + 1);
+   }
+
+
+   /**
+    * Appends the arrival number of value to both deques, dropping
+    * entries it dominates and entries that have left the window.
+    */
+   private void pushDeques(int value) {
+      long oldest = seen - window + 1;
+      if (minSize > 0 && minDeque[minHead] < oldest) {
+         minHead = (minHead + 1) % window;
+         minSize--;
+      }
+      while (minSize > 0
+            && ring[(int) (minDeque[(minHead + minSize - 1) % window] % window)] >= value) {
+         minSize--;
+      }
+      minDeque[(minHead + minSize) % window] = seen;
+      minSize++;
+
+      if (maxSize > 0 && maxDeque[maxHead] < oldest) {
+         maxHead = (maxHead + 1) % window;
+         maxSize--;
+      }
+      while (maxSize > 0
+            && ring[(int) (maxDeque[(maxHead + maxSize - 1) % window] % window)] <= value) {
+         maxSize--;
+      }
+      maxDeque[(maxHead + maxSize) % window] = seen;
+      maxSize++;
+   }
+
+
+   /** Adds one occurrence of value to the skip list. */
+   private void insert(int value) {
+      Node node = head;
+      int r = 0;
+      for (int i = level - 1; i >= 0; i--) {
+         while (node.next[i] != null && node.next[i].value < value) {
+            r += node.width[i];
+            node = node.next[i];
+         }
+         update[i] = node;
+         rank[i] = r;
+      }
+      Node found = node.next[0];
+      if (found != null && found.value == value) {
+         found.count++;
+         return;
+      }
+      int height = randomLevel();
+      for (int i = level; i < height; i++) {
+         update[i] = head;
+         rank[i] = 0;
+      }
+      level = Math.max(level, height);
+      Node created = new Node(value, height);
+      int at = r + 1;
+      for (int i = 0; i < height; i++) {
+         created.next[i] = update[i].next[i];
+         created.width[i] = update[i].width[i] - (at - rank[i]) + 1;
+         update[i].next[i] = created;
+         update[i].width[i] = at - rank[i];
+      }
+      for (int i = height; i < MAX_LEVEL; i++) {
+         Node u = (i < level) ? update[i] : head;
+         u.width[i]++;
+      }
+      distinct++;
+   }
+
+
+   /** Removes one occurrence of value, which must be present. */
+   private void remove(int value) {
+      Node node = head;
+      for (int i = level - 1; i >= 0; i--) {
+         while (node.next[i] != null && node.next[i].value < value) {
+            node = node.next[i];
+         }
+         update[i] = node;
+      }
+      Node target = node.next[0];
+      if (target.count > 1) {
+         target.count--;
+         return;
+      }
+      for (int i = 0; i < MAX_LEVEL; i++) {
+         Node u = (i < level) ? update[i] : head;
+         if (i < target.next.length) {
+            u.width[i] += target.width[i] - 1;
+            u.next[i] = target.next[i];
+         }
+         else {
+            u.width[i]--;
+         }
+      }
+      while (level > 1 && head.next[level - 1] == null) {
+         level--;
+      }
+      distinct--;
+   }
+
+
+   /** Returns the value with the given 1-based distinct rank. */
+   private int select(int r) {
+      Node node = head;
+      int remaining = r;
+      for (int i = level - 1; i >= 0; i--) {
+         while (node.next[i] != null && node.width[i] <= remaining) {
+            remaining -= node.width[i];
+            node = node.next[i];
+         }
+         if (remaining == 0) {
+            break;
+         }
+      }
+      return node.value;
+   }
+
+
+   /** Returns a height in [1..MAX_LEVEL] with P(height > h) = 2^-h. */
+   private int randomLevel() {
+      return 1 + Integer.numberOfTrailingZeros(rng.nextInt() | (1 << (MAX_LEVEL - 1)));
+   }
+
+
+   /** A distinct value in the skip list. */
+   private static final class Node {
+      private final int value;
+      private int count = 1;
+      private final Node[] next;
+      private final int[] width;
+
+      Node(int value, int height) {
+         this.value = value;
+         this.next = new Node[height];
+         this.width = new int[height];
+      }
+   }
+}
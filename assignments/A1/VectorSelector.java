@@ -0,0 +1,162 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Versions of the Selector scans min, max, and range that use SIMD
+ * kernels when the jdk.incubator.vector module is present and fall
+ * back to Selector otherwise. The choice is made once, when this
+ * class is initialized. The kernels, in vector/VectorKernels.java, are
+ * compiled separately and found by name at run time, so this class
+ * and the rest of A1 build without the module; to enable them, compile
+ * that file and start the JVM with --add-modules jdk.incubator.vector
+ * and the vector directory on the classpath. Results are identical to
+ * Selector's either way.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class VectorSelector {
+
+   // the kernel class, looked up by name so this class compiles without it
+   private static final String KERNELS = "VectorKernels";
+
+   // handles on the kernels' min, max, and range, or null if unavailable
+   private static final MethodHandle MIN = kernel("min", int.class);
+   private static final MethodHandle MAX = kernel("max", int.class);
+   private static final MethodHandle RANGE = kernel("range", int[].class,
+      int.class, int.class);
+
+   private static final boolean ACCELERATED = probe();
+
+   private VectorSelector() { }
+
+
+   /** Returns true if the SIMD kernels are in use. */
+   public static boolean isAccelerated() {
+      return ACCELERATED;
+   }
+
+
+   /**
+    * Selects the minimum value from the array a. This method throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this method.
+    */
+   public static int min(int[] a) {
+      if (!ACCELERATED) {
+         return Selector.min(a);
+      }
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      try {
+         return (int) MIN.invokeExact(a);
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+   }
+
+
+   /**
+    * Selects the maximum value from the array a. This method throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this method.
+    */
+   public static int max(int[] a) {
+      if (!ACCELERATED) {
+         return Selector.max(a);
+      }
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      try {
+         return (int) MAX.invokeExact(a);
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+   }
+
+
+   /**
+    * Returns an array containing all the values in a in the range
+    * [low..high], including duplicates, in the order they appear in
+    * a. If there are no qualifying values, this method returns a
+    * zero-length array. This method throws IllegalArgumentException
+    * if a is null or has zero length. The array a is not changed by
+    * this method.
+    */
+   public static int[] range(int[] a, int low, int high) {
+      if (!ACCELERATED) {
+         return Selector.range(a, low, high);
+      }
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      try {
+         return (int[]) RANGE.invokeExact(a, low, high);
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+   }
+
+
+   /**
+    * Returns a handle on the static kernel of the given name and type,
+    * or null if the vector module is not resolved in this JVM or the
+    * kernel class is not on the classpath.
+    */
+   private static MethodHandle kernel(String name, Class<?> returnType,
+                                      Class<?>... extra) {
+      if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+         return null;
+      }
+      Class<?>[] params = new Class<?>[1 + extra.length];
+      params[0] = int[].class;
+      System.arraycopy(extra, 0, params, 1, extra.length);
+      try {
+         Class<?> kernels = Class.forName(KERNELS);
+         return MethodHandles.lookup().findStatic(kernels, name,
+            MethodType.methodType(returnType, params));
+      }
+      catch (ReflectiveOperationException | LinkageError e) {
+         return null;
+      }
+   }
+
+
+   /**
+    * Returns true if every kernel was found and the kernels link and
+    * run.
+    */
+   private static boolean probe() {
+      if (MIN == null || MAX == null || RANGE == null) {
+         return false;
+      }
+      try {
+         return (int) MIN.invokeExact(new int[] {1, 0}) == 0;
+      }
+      catch (Throwable e) {
+         return false;
+      }
+   }
+
+
+   /**
+    * Rethrows an unchecked exception or error thrown by a kernel; the
+    * kernels declare no checked exceptions.
+    */
+   private static RuntimeException rethrow(Throwable e) {
+      if (e instanceof RuntimeException) {
+         throw (RuntimeException) e;
+      }
+      if (e instanceof Error) {
+         throw (Error) e;
+      }
+      throw new IllegalStateException(e);
+   }
+}
@@ -0,0 +1,94 @@
+import java.util.Random;
+
+/**
+ * Times Selector against VectorSelector for min, max, and range on
+ * arrays of 1K, 1M, and 100M elements (or the sizes given on the
+ * command line). VectorSelector uses its SIMD kernels only when
+ * vector/VectorKernels.java has been compiled, its directory is on the
+ * classpath, and the JVM has the jdk.incubator.vector module:
+ *
+ *        javac --add-modules jdk.incubator.vector vector/VectorKernels.java
+ *
+ * Usage: java --add-modules jdk.incubator.vector -cp .:vector VectorSelectorClient [sizes...]
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class VectorSelectorClient {
+
+   // to convert from nanoseconds to milliseconds
+   private static final double MILLIS = 1_000_000d;
+
+   // elements scanned untimed before measuring, so both versions are compiled
+   private static final int WARMUP_ELEMENTS = 2_000_000;
+
+   // timed repetitions per size; the best one is reported
+   private static final int REPS = 10;
+
+   // keeps results live so the timed calls are not optimized away
+   private static long sink;
+
+   /** Drives execution. */
+   public static void main(String[] args) {
+      int[] sizes = {1_000, 1_000_000, 100_000_000};
+      if (args.length > 0) {
+         sizes = new int[args.length];
+         for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+         }
+      }
+      System.out.println("accelerated = " + VectorSelector.isAccelerated());
+      System.out.println("n, op, scalar ms, vector ms, speedup");
+      Random rng = new Random(2210);
+      for (int n : sizes) {
+         int[] a = new int[n];
+         for (int i = 0; i < n; i++) {
+            a[i] = rng.nextInt();
+         }
+         report(n, "min", time(a, 0, false), time(a, 0, true));
+         report(n, "max", time(a, 1, false), time(a, 1, true));
+         report(n, "range", time(a, 2, false), time(a, 2, true));
+      }
+      System.out.println("(checksum " + sink + ")");
+   }
+
+   /** Returns the best time in ms of op on a over the timed runs. */
+   private static double time(int[] a, int op, boolean vector) {
+      boolean huge = a.length >= 10_000_000;
+      int warmup = huge ? 1 : Math.max(5, WARMUP_ELEMENTS / a.length);
+      int reps = huge ? 3 : REPS;
+      for (int r = 0; r < warmup; r++) {
+         sink += run(a, op, vector);
+      }
+      double best = Double.MAX_VALUE;
+      for (int r = 0; r < reps; r++) {
+         long start = System.nanoTime();
+         sink += run(a, op, vector);
+         best = Math.min(best, (System.nanoTime() - start) / MILLIS);
+      }
+      return best;
+   }
+
+   /** Runs op once on a. */
+   private static int run(int[] a, int op, boolean vector) {
+      int low = -(1 << 30);
+      int high = 1 << 30;
+      switch (op) {
+         case 0:
+            return vector ? VectorSelector.min(a) : Selector.min(a);
+         case 1:
+            return vector ? VectorSelector.max(a) : Selector.max(a);
+         default:
+            return vector ? VectorSelector.range(a, low, high).length
+               : Selector.range(a, low, high).length;
+      }
+   }
+
+   /** Prints one result line. */
+   private static void report(int n, String op, double scalar, double vector) {
+      System.out.printf("%d, %s, %.4f, %.4f, %.2fx%n",
+         n, op, scalar, vector, scalar / vector);
+   }
+
+}
@@ -0,0 +1,115 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels for VectorSelector, written against the incubating
+ * Vector API. This class lives in its own source directory so that the
+ * rest of A1 builds with a bare javac; VectorSelector looks it up by
+ * name, and only once it has found the jdk.incubator.vector module.
+ * Compile it, and put the result on the classpath, with:
+ *
+ *        javac --add-modules jdk.incubator.vector vector/VectorKernels.java
+ *        java --add-modules jdk.incubator.vector -cp .:vector VectorSelectorClient
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class VectorKernels {
+
+   private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+   private VectorKernels() { }
+
+
+   /** Returns the minimum of a, which must have nonzero length. */
+   static int min(int[] a) {
+      int bound = SPECIES.loopBound(a.length);
+      int value = a[0];
+      int i = 0;
+      if (bound > 0) {
+         IntVector acc = IntVector.fromArray(SPECIES, a, 0);
+         for (i = SPECIES.length(); i < bound; i += SPECIES.length()) {
+            acc = acc.min(IntVector.fromArray(SPECIES, a, i));
+         }
+         value = acc.reduceLanes(VectorOperators.MIN);
+      }
+      for (; i < a.length; i++) {
+         value = Math.min(value, a[i]);
+      }
+      return value;
+   }
+
+
+   /** Returns the maximum of a, which must have nonzero length. */
+   static int max(int[] a) {
+      int bound = SPECIES.loopBound(a.length);
+      int value = a[0];
+      int i = 0;
+      if (bound > 0) {
+         IntVector acc = IntVector.fromArray(SPECIES, a, 0);
+         for (i = SPECIES.length(); i < bound; i += SPECIES.length()) {
+            acc = acc.max(IntVector.fromArray(SPECIES, a, i));
+         }
+         value = acc.reduceLanes(VectorOperators.MAX);
+      }
+      for (; i < a.length; i++) {
+         value = Math.max(value, a[i]);
+      }
+      return value;
+   }
+
+
+   /**
+    * Returns the values of a in [low..high] in their original order.
+    * The first pass counts matching lanes; the second writes whole
+    * vectors when every lane matches and walks the mask bits otherwise.
+    */
+   static int[] range(int[] a, int low, int high) {
+      int bound = SPECIES.loopBound(a.length);
+      int count = 0;
+      int i = 0;
+      for (; i < bound; i += SPECIES.length()) {
+         count += inRange(IntVector.fromArray(SPECIES, a, i), low, high).trueCount();
+      }
+      for (; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            count++;
+         }
+      }
+      int[] result = new int[count];
+      if (count == 0) {
+         return result;
+      }
+      int k = 0;
+      for (i = 0; i < bound; i += SPECIES.length()) {
+         IntVector v = IntVector.fromArray(SPECIES, a, i);
+         VectorMask<Integer> m = inRange(v, low, high);
+         if (m.allTrue()) {
+            v.intoArray(result, k);
+            k += SPECIES.length();
+         }
+         else if (m.anyTrue()) {
+            long bits = m.toLong();
+            while (bits != 0) {
+               result[k++] = a[i + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
+         }
+      }
+      for (; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            result[k++] = a[i];
+         }
+      }
+      return result;
+   }
+
+
+   /** Returns the lanes of v that lie in [low..high]. */
+   private static VectorMask<Integer> inRange(IntVector v, int low, int high) {
+      return v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LE, high));
+   }
+}
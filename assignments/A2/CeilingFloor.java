@@ -0,0 +1,69 @@
+import java.util.NoSuchElementException;
+
+/**
+ * The ceiling and floor of one key in a collection, found together by
+ * Selector.ceilingAndFloor. Either may be missing: a key above every
+ * value has no ceiling, and a key below every value has no floor.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class CeilingFloor<T> {
+
+   private final T ceiling;
+   private final T floor;
+   private final boolean hasCeiling;
+   private final boolean hasFloor;
+
+
+   CeilingFloor(T ceiling, boolean hasCeiling, T floor, boolean hasFloor) {
+      this.ceiling = ceiling;
+      this.hasCeiling = hasCeiling;
+      this.floor = floor;
+      this.hasFloor = hasFloor;
+   }
+
+
+   /** Returns true if some value is greater than or equal to the key. */
+   public boolean hasCeiling() {
+      return hasCeiling;
+   }
+
+
+   /** Returns true if some value is less than or equal to the key. */
+   public boolean hasFloor() {
+      return hasFloor;
+   }
+
+
+   /**
+    * Returns the smallest value greater than or equal to the key. This
+    * method throws NoSuchElementException if there is none.
+    */
+   public T ceiling() {
+      if (!hasCeiling) {
+         throw new NoSuchElementException();
+      }
+      return ceiling;
+   }
+
+
+   /**
+    * Returns the largest value less than or equal to the key. This
+    * method throws NoSuchElementException if there is none.
+    */
+   public T floor() {
+      if (!hasFloor) {
+         throw new NoSuchElementException();
+      }
+      return floor;
+   }
+
+
+   @Override
+   public String toString() {
+      return "[floor=" + (hasFloor ? floor : "none")
+         + ", ceiling=" + (hasCeiling ? ceiling : "none") + "]";
+   }
+}
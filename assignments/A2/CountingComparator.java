@@ -0,0 +1,54 @@
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Comparator that counts how many times it is called and delegates
+ * every comparison to another Comparator. The count is kept in a
+ * LongAdder, so one instance may be shared by threads.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class CountingComparator<T> implements Comparator<T> {
+
+   private final Comparator<T> delegate;
+   private final LongAdder count = new LongAdder();
+
+
+   /**
+    * Creates a counting wrapper around delegate. This constructor
+    * throws IllegalArgumentException if delegate is null.
+    */
+   public CountingComparator(Comparator<T> delegate) {
+      if (delegate == null) {
+         throw new IllegalArgumentException();
+      }
+      this.delegate = delegate;
+   }
+
+
+   @Override
+   public int compare(T x, T y) {
+      count.increment();
+      return delegate.compare(x, y);
+   }
+
+
+   /** Returns the number of comparisons made so far. */
+   public long count() {
+      return count.sum();
+   }
+
+
+   /** Sets the number of comparisons back to zero. */
+   public void reset() {
+      count.reset();
+   }
+
+
+   /** Returns the Comparator this one delegates to. */
+   public Comparator<T> delegate() {
+      return delegate;
+   }
+}
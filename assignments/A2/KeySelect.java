@@ -0,0 +1,125 @@
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Selection by extracted key behind the kminBy and kmaxBy methods of
+ * Selector. Each key is computed exactly once, up front, and selection
+ * then runs on the keys alone: object keys are paired with their
+ * elements and handed to ObjectSelect, and int and long keys are
+ * copied to a primitive array and handed to PrimitiveSelect, which
+ * selects the kth distinct key the same way without boxing. Two elements count as the same value when their keys are equal,
+ * and the first of them in encounter order is the one returned.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class KeySelect {
+
+   private KeySelect() { }
+
+
+   /**
+    * Returns the first element of coll, in encounter order, whose key
+    * is the kth smallest distinct key under keyComp, or the kth largest
+    * if fromMax.
+    */
+   static <T, K> T kthByKey(Collection<T> coll, int k,
+                            Function<? super T, ? extends K> keyFn,
+                            Comparator<? super K> keyComp, boolean fromMax) {
+      Object[] entries = new Object[coll.size()];
+      int n = 0;
+      for (T value : coll) {
+         entries[n++] = new Keyed<T, K>(keyFn.apply(value), value);
+      }
+      // ObjectSelect reorders its array, so keep the encounter order
+      Object[] inOrder = entries.clone();
+      Comparator<Keyed<T, K>> byKey = (x, y) -> keyComp.compare(x.key, y.key);
+      Keyed<T, K> found = ObjectSelect.kthDistinct(entries, k,
+         fromMax ? byKey.reversed() : byKey);
+      return elementWith(inOrder, found.key, keyComp);
+   }
+
+
+   /**
+    * Returns the first element of coll, in encounter order, whose int
+    * key is the kth smallest distinct key, or the kth largest if
+    * fromMax.
+    */
+   static <T> T kthByInt(Collection<T> coll, int k,
+                         ToIntFunction<? super T> keyFn, boolean fromMax) {
+      Object[] values = coll.toArray();
+      int[] keys = new int[values.length];
+      for (int i = 0; i < values.length; i++) {
+         @SuppressWarnings("unchecked")
+         T value = (T) values[i];
+         keys[i] = keyFn.applyAsInt(value);
+      }
+      return elementWith(values, keys, PrimitiveSelect.kthDistinct(keys, k, fromMax));
+   }
+
+
+   /**
+    * Same as kthByInt for long keys.
+    */
+   static <T> T kthByLong(Collection<T> coll, int k,
+                          ToLongFunction<? super T> keyFn, boolean fromMax) {
+      Object[] values = coll.toArray();
+      long[] keys = new long[values.length];
+      for (int i = 0; i < values.length; i++) {
+         @SuppressWarnings("unchecked")
+         T value = (T) values[i];
+         keys[i] = keyFn.applyAsLong(value);
+      }
+      return elementWith(values, keys, PrimitiveSelect.kthDistinct(keys, k, fromMax));
+   }
+
+
+   /** Returns the value of the first of entries whose key is key. */
+   @SuppressWarnings("unchecked")
+   private static <T, K> T elementWith(Object[] entries, K key,
+                                       Comparator<? super K> keyComp) {
+      int i = 0;
+      while (keyComp.compare(((Keyed<T, K>) entries[i]).key, key) != 0) {
+         i++;
+      }
+      return ((Keyed<T, K>) entries[i]).value;
+   }
+
+
+   /** Returns the first of values whose key in keys is key. */
+   @SuppressWarnings("unchecked")
+   private static <T> T elementWith(Object[] values, int[] keys, int key) {
+      int i = 0;
+      while (keys[i] != key) {
+         i++;
+      }
+      return (T) values[i];
+   }
+
+
+   /** Returns the first of values whose key in keys is key. */
+   @SuppressWarnings("unchecked")
+   private static <T> T elementWith(Object[] values, long[] keys, long key) {
+      int i = 0;
+      while (keys[i] != key) {
+         i++;
+      }
+      return (T) values[i];
+   }
+
+
+   /** An element decorated with its precomputed key. */
+   private static final class Keyed<T, K> {
+      private final K key;
+      private final T value;
+
+      Keyed(K key, T value) {
+         this.key = key;
+         this.value = value;
+      }
+   }
+}
@@ -0,0 +1,146 @@
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Comparator-driven selection engine behind the kmin and kmax methods
+ * of Selector. It works on an Object[] snapshot of a collection and
+ * treats two elements as the same value exactly when the comparator
+ * returns 0 for them.
+ *
+ * Selection is a three-way quickselect with random median-of-three
+ * pivots. Each partition collapses the pivot's equal block to a single
+ * distinct value. When the answer lies to the right of a partition,
+ * the distinct values to its left must be counted, which costs up to
+ * O(m log m) for that part; finding the answer itself is expected
+ * linear. (Counting distinct values with only a comparator cannot be
+ * done in linear time in general.)
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class ObjectSelect {
+
+   // Ranges at or below this size are finished with insertion sort.
+   private static final int INSERTION_CUTOFF = 12;
+
+   private ObjectSelect() { }
+
+
+   /**
+    * Returns the kth smallest distinct element of x[0..x.length) under
+    * comp, rearranging x in the process. This method throws
+    * NoSuchElementException if x has fewer than k distinct elements.
+    */
+   @SuppressWarnings("unchecked")
+   static <T> T kthDistinct(Object[] x, int k, Comparator<? super T> comp) {
+      int found = selectOrCount(x, 0, x.length - 1, k, (Comparator<Object>) comp);
+      if (found < 0) {
+         throw new NoSuchElementException();
+      }
+      return (T) x[found];
+   }
+
+
+   /**
+    * Looks for the kth smallest distinct element of x[lo..hi]. Returns
+    * its index if there is one, or -(c + 1) where c < k is the number
+    * of distinct elements in the range.
+    */
+   static int selectOrCount(Object[] x, int lo, int hi, int k,
+                            Comparator<Object> comp) {
+      // distinct values already passed on the left
+      int passed = 0;
+      while (hi - lo > INSERTION_CUTOFF) {
+         int p = medianOfThree(x, lo, hi, comp);
+         swap(x, lo, p);
+         Object pivot = x[lo];
+         // x[lo..lt) < pivot, x[lt..i) == pivot, x(gt..hi] > pivot
+         int lt = lo;
+         int gt = hi;
+         int i = lo + 1;
+         while (i <= gt) {
+            int c = comp.compare(x[i], pivot);
+            if (c < 0) {
+               swap(x, lt++, i++);
+            }
+            else if (c > 0) {
+               swap(x, i, gt--);
+            }
+            else {
+               i++;
+            }
+         }
+         int left = selectOrCount(x, lo, lt - 1, k - passed, comp);
+         if (left >= 0) {
+            return left;
+         }
+         int distinctLeft = -left - 1;
+         if (passed + distinctLeft + 1 == k) {
+            return lt;
+         }
+         passed += distinctLeft + 1;
+         lo = gt + 1;
+      }
+      if (hi < lo) {
+         return -passed - 1;
+      }
+      insertionSort(x, lo, hi, comp);
+      for (int i = lo; i <= hi; i++) {
+         if (i == lo || comp.compare(x[i - 1], x[i]) != 0) {
+            passed++;
+            if (passed == k) {
+               return i;
+            }
+         }
+      }
+      return -passed - 1;
+   }
+
+
+   /**
+    * Returns the index of the median of three randomly chosen elements
+    * of x[lo..hi].
+    */
+   private static int medianOfThree(Object[] x, int lo, int hi,
+                                    Comparator<Object> comp) {
+      ThreadLocalRandom rng = ThreadLocalRandom.current();
+      int i = rng.nextInt(lo, hi + 1);
+      int j = rng.nextInt(lo, hi + 1);
+      int k = rng.nextInt(lo, hi + 1);
+      if (comp.compare(x[i], x[j]) < 0) {
+         if (comp.compare(x[j], x[k]) < 0) {
+            return j;
+         }
+         return (comp.compare(x[i], x[k]) < 0) ? k : i;
+      }
+      if (comp.compare(x[i], x[k]) < 0) {
+         return i;
+      }
+      return (comp.compare(x[j], x[k]) < 0) ? k : j;
+   }
+
+
+   /** Sorts x[lo..hi] in place under comp. */
+   static void insertionSort(Object[] x, int lo, int hi,
+                             Comparator<Object> comp) {
+      for (int i = lo + 1; i <= hi; i++) {
+         Object value = x[i];
+         int j = i - 1;
+         while (j >= lo && comp.compare(x[j], value) > 0) {
+            x[j + 1] = x[j];
+            j--;
+         }
+         x[j + 1] = value;
+      }
+   }
+
+
+   /** Exchanges x[i] and x[j]. */
+   private static void swap(Object[] x, int i, int j) {
+      Object tmp = x[i];
+      x[i] = x[j];
+      x[j] = tmp;
+   }
+}
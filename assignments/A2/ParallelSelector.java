@@ -0,0 +1,326 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join versions of the Selector methods min, max, range, kmin,
+ * and kmax for large collections.
+ *
+ * min, max, and range split the collection through its Spliterator
+ * until a piece is estimated to hold no more than the sequential
+ * threshold, then scan the pieces in parallel and combine the results.
+ * range keeps the matching values of each piece in its own list and
+ * joins the lists in encounter order once, at the end. kmin and kmax
+ * sort a snapshot of the collection with a parallel merge sort in the
+ * same pool and walk it for the kth distinct value.
+ *
+ * Collections smaller than the threshold, and sorted sources that
+ * Selector answers by search, are handed to Selector unchanged. The
+ * contracts, including the exceptions thrown, are the same as
+ * Selector's.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class ParallelSelector {
+
+   /** Piece size used by Selector.parallel(). */
+   public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+   // returned by Extreme for a piece with no elements
+   private static final Object NONE = new Object();
+
+   private final ForkJoinPool pool;
+   private final int threshold;
+
+
+   /**
+    * Creates a selector that runs in pool and stops splitting at
+    * pieces of threshold elements. Collections smaller than threshold
+    * are not split at all. This constructor throws
+    * IllegalArgumentException if pool is null or threshold is less
+    * than 1.
+    */
+   public ParallelSelector(ForkJoinPool pool, int threshold) {
+      if ((pool == null) || (threshold < 1)) {
+         throw new IllegalArgumentException();
+      }
+      this.pool = pool;
+      this.threshold = threshold;
+   }
+
+
+   /**
+    * Returns a selector that uses the same pool as this one and the
+    * given sequential threshold.
+    */
+   public ParallelSelector withThreshold(int threshold) {
+      return new ParallelSelector(pool, threshold);
+   }
+
+
+   /** Returns the sequential threshold of this selector. */
+   public int threshold() {
+      return threshold;
+   }
+
+
+   /** Same as Selector.min, scanning pieces of coll in parallel. */
+   public <T> T min(Collection<T> coll, Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.min(coll, comp);
+      }
+      return extreme(coll, comp);
+   }
+
+
+   /** Same as Selector.max, scanning pieces of coll in parallel. */
+   public <T> T max(Collection<T> coll, Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.max(coll, comp);
+      }
+      return extreme(coll, Collections.reverseOrder(comp));
+   }
+
+
+   /**
+    * Same as Selector.range, filtering pieces of coll in parallel. The
+    * values are returned in the encounter order of coll.
+    */
+   public <T> Collection<T> range(Collection<T> coll, T low, T high,
+                                  Comparator<T> comp) {
+      if (sequential(coll, comp) || comp.compare(low, high) > 0) {
+         return Selector.range(coll, low, high, comp);
+      }
+      List<List<T>> pieces = pool.invoke(
+         new Filter<T>(coll.spliterator(), low, high, comp, threshold));
+      int total = 0;
+      for (List<T> piece : pieces) {
+         total += piece.size();
+      }
+      if (total == 0) {
+         throw new NoSuchElementException();
+      }
+      List<T> result = new ArrayList<T>(total);
+      for (List<T> piece : pieces) {
+         result.addAll(piece);
+      }
+      return result;
+   }
+
+
+   /** Same as Selector.kmin, sorting a snapshot of coll in parallel. */
+   public <T> T kmin(Collection<T> coll, int k, Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.kmin(coll, k, comp);
+      }
+      return kthDistinct(coll, k, comp);
+   }
+
+
+   /** Same as Selector.kmax, sorting a snapshot of coll in parallel. */
+   public <T> T kmax(Collection<T> coll, int k, Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.kmax(coll, k, comp);
+      }
+      return kthDistinct(coll, k, Collections.reverseOrder(comp));
+   }
+
+
+   /**
+    * Returns true if coll should go to Selector as is: it or comp is
+    * null, it is too small to split, or it is a sorted source.
+    */
+   private boolean sequential(Collection<?> coll, Comparator<?> comp) {
+      return (coll == null) || (comp == null) || (coll.size() < threshold)
+         || SortedSource.isSorted(coll, comp);
+   }
+
+
+   /** Returns the smallest value of the non-empty coll under comp. */
+   @SuppressWarnings("unchecked")
+   private <T> T extreme(Collection<T> coll, Comparator<T> comp) {
+      Object best = pool.invoke(new Extreme<T>(coll.spliterator(), comp, threshold));
+      if (best == NONE) {
+         throw new NoSuchElementException();
+      }
+      return (T) best;
+   }
+
+
+   /**
+    * Returns the kth smallest distinct value of coll under comp, from
+    * a snapshot merge sorted in the pool. Arrays.parallelSort is not
+    * used because its piece size, and whether it runs in parallel at
+    * all, follow the common pool's parallelism rather than this pool's.
+    */
+   @SuppressWarnings("unchecked")
+   private <T> T kthDistinct(Collection<T> coll, int k, Comparator<T> comp) {
+      if (k < 1) {
+         throw new NoSuchElementException();
+      }
+      T[] x = (T[]) coll.toArray();
+      pool.invoke(new Sort<T>(x, (T[]) new Object[x.length], 0, x.length,
+         comp, threshold));
+      int distinct = 0;
+      for (int i = 0; i < x.length; i++) {
+         if (i == 0 || comp.compare(x[i - 1], x[i]) != 0) {
+            distinct++;
+            if (distinct == k) {
+               return x[i];
+            }
+         }
+      }
+      throw new NoSuchElementException();
+   }
+
+
+   /**
+    * Finds the smallest value of a spliterator's elements, or NONE if
+    * it has none.
+    */
+   @SuppressWarnings("serial")
+   private static final class Extreme<T> extends RecursiveTask<Object> {
+      private final Spliterator<T> source;
+      private final Comparator<T> comp;
+      private final int threshold;
+
+      Extreme(Spliterator<T> source, Comparator<T> comp, int threshold) {
+         this.source = source;
+         this.comp = comp;
+         this.threshold = threshold;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      protected Object compute() {
+         Spliterator<T> prefix = (source.estimateSize() > threshold)
+            ? source.trySplit() : null;
+         if (prefix == null) {
+            Object[] best = {NONE};
+            source.forEachRemaining(value -> {
+               if (best[0] == NONE || comp.compare(value, (T) best[0]) < 0) {
+                  best[0] = value;
+               }
+            });
+            return best[0];
+         }
+         Extreme<T> left = new Extreme<T>(prefix, comp, threshold);
+         left.fork();
+         Object right = new Extreme<T>(source, comp, threshold).compute();
+         Object value = left.join();
+         if (value == NONE) {
+            return right;
+         }
+         if (right == NONE) {
+            return value;
+         }
+         // ties keep the earlier value, as Selector.min does
+         return (comp.compare((T) right, (T) value) < 0) ? right : value;
+      }
+   }
+
+
+   /**
+    * Collects the elements of a spliterator in [low..high], one list
+    * per piece, in encounter order.
+    */
+   @SuppressWarnings("serial")
+   private static final class Filter<T> extends RecursiveTask<List<List<T>>> {
+      private final Spliterator<T> source;
+      private final T low;
+      private final T high;
+      private final Comparator<T> comp;
+      private final int threshold;
+
+      Filter(Spliterator<T> source, T low, T high, Comparator<T> comp,
+             int threshold) {
+         this.source = source;
+         this.low = low;
+         this.high = high;
+         this.comp = comp;
+         this.threshold = threshold;
+      }
+
+      @Override
+      protected List<List<T>> compute() {
+         Spliterator<T> prefix = (source.estimateSize() > threshold)
+            ? source.trySplit() : null;
+         if (prefix == null) {
+            List<T> piece = new ArrayList<T>();
+            source.forEachRemaining(value -> {
+               if (comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0) {
+                  piece.add(value);
+               }
+            });
+            List<List<T>> pieces = new ArrayList<List<T>>(1);
+            pieces.add(piece);
+            return pieces;
+         }
+         Filter<T> left = new Filter<T>(prefix, low, high, comp, threshold);
+         left.fork();
+         List<List<T>> right = new Filter<T>(source, low, high, comp, threshold).compute();
+         List<List<T>> pieces = left.join();
+         pieces.addAll(right);
+         return pieces;
+      }
+   }
+
+
+   /**
+    * Stably sorts x[lo..hi) under comp: pieces of at most threshold
+    * values are sorted by Arrays.sort and merged through tmp.
+    */
+   @SuppressWarnings("serial")
+   private static final class Sort<T> extends RecursiveAction {
+      private final T[] x;
+      private final T[] tmp;
+      private final int lo;
+      private final int hi;
+      private final Comparator<T> comp;
+      private final int threshold;
+
+      Sort(T[] x, T[] tmp, int lo, int hi, Comparator<T> comp, int threshold) {
+         this.x = x;
+         this.tmp = tmp;
+         this.lo = lo;
+         this.hi = hi;
+         this.comp = comp;
+         this.threshold = threshold;
+      }
+
+      @Override
+      protected void compute() {
+         if (hi - lo <= threshold) {
+            Arrays.sort(x, lo, hi, comp);
+            return;
+         }
+         int mid = (lo + hi) >>> 1;
+         invokeAll(new Sort<T>(x, tmp, lo, mid, comp, threshold),
+            new Sort<T>(x, tmp, mid, hi, comp, threshold));
+         if (comp.compare(x[mid - 1], x[mid]) <= 0) {
+            return;
+         }
+         // ties take the left value first, keeping the sort stable
+         int i = lo;
+         int j = mid;
+         int k = lo;
+         while (i < mid && j < hi) {
+            tmp[k++] = (comp.compare(x[j], x[i]) < 0) ? x[j++] : x[i++];
+         }
+         System.arraycopy(x, i, tmp, k, mid - i);
+         k += mid - i;
+         System.arraycopy(x, j, tmp, k, hi - j);
+         System.arraycopy(tmp, lo, x, lo, hi - lo);
+      }
+   }
+}
@@ -0,0 +1,102 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times Selector against Selector.parallel() on ArrayList, ArrayDeque,
+ * and HashSet sources of doubling size, and reports for each source
+ * the first size at which the parallel version wins. Sources whose
+ * spliterators split evenly (ArrayList, ArrayDeque) should cross over
+ * sooner than HashSet, whose pieces follow its bucket layout.
+ *
+ * Usage: java ParallelSelectorClient [maxSize] [threshold]
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class ParallelSelectorClient {
+
+   // to convert from nanoseconds to milliseconds
+   private static final double MILLIS = 1_000_000d;
+
+   // timed repetitions per size; the best one is reported
+   private static final int REPS = 5;
+
+   private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+   /** Drives execution. */
+   public static void main(String[] args) {
+      int maxSize = (args.length > 0) ? Integer.parseInt(args[0]) : 1 << 22;
+      ParallelSelector parallel = Selector.parallel();
+      if (args.length > 1) {
+         parallel = parallel.withThreshold(Integer.parseInt(args[1]));
+      }
+      String[] names = {"ArrayList", "ArrayDeque", "HashSet"};
+      int[] crossover = {-1, -1, -1};
+      Random rng = new Random(2210);
+      System.out.println("source, n, seq min ms, par min ms, seq range ms, "
+         + "par range ms, seq kmin ms, par kmin ms");
+      for (int n = 1 << 10; n > 0 && n <= maxSize; n *= 2) {
+         List<Integer> values = new ArrayList<Integer>(n);
+         for (int i = 0; i < n; i++) {
+            values.add(rng.nextInt());
+         }
+         List<Collection<Integer>> sources = new ArrayList<Collection<Integer>>();
+         sources.add(values);
+         sources.add(new ArrayDeque<Integer>(values));
+         sources.add(new HashSet<Integer>(values));
+         for (int s = 0; s < sources.size(); s++) {
+            double[] best = time(sources.get(s), parallel);
+            System.out.printf("%s, %d, %.3f, %.3f, %.3f, %.3f, %.3f, %.3f%n",
+               names[s], n, best[0], best[1], best[2], best[3], best[4], best[5]);
+            if (crossover[s] < 0 && best[1] < best[0] && best[3] < best[2]) {
+               crossover[s] = n;
+            }
+         }
+      }
+      System.out.println("threshold = " + parallel.threshold());
+      for (int s = 0; s < names.length; s++) {
+         System.out.println(names[s] + ": parallel wins from n = "
+            + ((crossover[s] < 0) ? "(never)" : String.valueOf(crossover[s])));
+      }
+   }
+
+   /**
+    * Returns the best of REPS times, in milliseconds, for sequential and
+    * parallel min, range, and kmin on coll.
+    */
+   private static double[] time(Collection<Integer> coll, ParallelSelector parallel) {
+      double[] best = new double[6];
+      Arrays.fill(best, Double.MAX_VALUE);
+      int low = -(1 << 30);
+      int high = 1 << 30;
+      int k = Math.max(1, coll.size() / 2);
+      for (int r = 0; r < REPS; r++) {
+         long[] t = new long[7];
+         t[0] = System.nanoTime();
+         Selector.min(coll, ORDER);
+         t[1] = System.nanoTime();
+         parallel.min(coll, ORDER);
+         t[2] = System.nanoTime();
+         Selector.range(coll, low, high, ORDER);
+         t[3] = System.nanoTime();
+         parallel.range(coll, low, high, ORDER);
+         t[4] = System.nanoTime();
+         Selector.kmin(coll, k, ORDER);
+         t[5] = System.nanoTime();
+         parallel.kmin(coll, k, ORDER);
+         t[6] = System.nanoTime();
+         for (int i = 0; i < best.length; i++) {
+            best[i] = Math.min(best[i], (t[i + 1] - t[i]) / MILLIS);
+         }
+      }
+      return best;
+   }
+
+}
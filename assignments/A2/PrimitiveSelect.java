@@ -0,0 +1,243 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Distinct selection on int and long arrays, behind the primitive-key
+ * kminBy and kmaxBy methods of Selector. It is the selection of
+ * ObjectSelect with the comparator replaced by primitive comparisons:
+ * a three-way quickselect with random median-of-three pivots that
+ * collapses each pivot's equal block to a single distinct value and
+ * counts the distinct values it passes on the left.
+ *
+ * The kth largest distinct value is found as the kth smallest of the
+ * bitwise complements, which reverse the order of ints and longs
+ * without the overflow of negation.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class PrimitiveSelect {
+
+   // Ranges at or below this size are finished with insertion sort.
+   private static final int INSERTION_CUTOFF = 12;
+
+   private PrimitiveSelect() { }
+
+
+   /**
+    * Returns the kth smallest distinct value of keys, or the kth
+    * largest if fromMax. keys is not changed. This method throws
+    * NoSuchElementException if keys has fewer than k distinct values.
+    */
+   static int kthDistinct(int[] keys, int k, boolean fromMax) {
+      int[] x = new int[keys.length];
+      for (int i = 0; i < x.length; i++) {
+         x[i] = fromMax ? ~keys[i] : keys[i];
+      }
+      int found = selectOrCount(x, 0, x.length - 1, k);
+      if (found < 0) {
+         throw new NoSuchElementException();
+      }
+      return fromMax ? ~x[found] : x[found];
+   }
+
+
+   /** Same as kthDistinct(int[], int, boolean) for long keys. */
+   static long kthDistinct(long[] keys, int k, boolean fromMax) {
+      long[] x = new long[keys.length];
+      for (int i = 0; i < x.length; i++) {
+         x[i] = fromMax ? ~keys[i] : keys[i];
+      }
+      int found = selectOrCount(x, 0, x.length - 1, k);
+      if (found < 0) {
+         throw new NoSuchElementException();
+      }
+      return fromMax ? ~x[found] : x[found];
+   }
+
+
+   /**
+    * Looks for the kth smallest distinct value of x[lo..hi]. Returns
+    * its index if there is one, or -(c + 1) where c < k is the number
+    * of distinct values in the range.
+    */
+   private static int selectOrCount(int[] x, int lo, int hi, int k) {
+      // distinct values already passed on the left
+      int passed = 0;
+      while (hi - lo > INSERTION_CUTOFF) {
+         swap(x, lo, medianOfThree(x, lo, hi));
+         int pivot = x[lo];
+         // x[lo..lt) < pivot, x[lt..i) == pivot, x(gt..hi] > pivot
+         int lt = lo;
+         int gt = hi;
+         int i = lo + 1;
+         while (i <= gt) {
+            if (x[i] < pivot) {
+               swap(x, lt++, i++);
+            }
+            else if (x[i] > pivot) {
+               swap(x, i, gt--);
+            }
+            else {
+               i++;
+            }
+         }
+         int left = selectOrCount(x, lo, lt - 1, k - passed);
+         if (left >= 0) {
+            return left;
+         }
+         int distinctLeft = -left - 1;
+         if (passed + distinctLeft + 1 == k) {
+            return lt;
+         }
+         passed += distinctLeft + 1;
+         lo = gt + 1;
+      }
+      if (hi < lo) {
+         return -passed - 1;
+      }
+      insertionSort(x, lo, hi);
+      for (int i = lo; i <= hi; i++) {
+         if (i == lo || x[i - 1] != x[i]) {
+            passed++;
+            if (passed == k) {
+               return i;
+            }
+         }
+      }
+      return -passed - 1;
+   }
+
+
+   /** Same as selectOrCount(int[], int, int, int) for long values. */
+   private static int selectOrCount(long[] x, int lo, int hi, int k) {
+      int passed = 0;
+      while (hi - lo > INSERTION_CUTOFF) {
+         swap(x, lo, medianOfThree(x, lo, hi));
+         long pivot = x[lo];
+         int lt = lo;
+         int gt = hi;
+         int i = lo + 1;
+         while (i <= gt) {
+            if (x[i] < pivot) {
+               swap(x, lt++, i++);
+            }
+            else if (x[i] > pivot) {
+               swap(x, i, gt--);
+            }
+            else {
+               i++;
+            }
+         }
+         int left = selectOrCount(x, lo, lt - 1, k - passed);
+         if (left >= 0) {
+            return left;
+         }
+         int distinctLeft = -left - 1;
+         if (passed + distinctLeft + 1 == k) {
+            return lt;
+         }
+         passed += distinctLeft + 1;
+         lo = gt + 1;
+      }
+      if (hi < lo) {
+         return -passed - 1;
+      }
+      insertionSort(x, lo, hi);
+      for (int i = lo; i <= hi; i++) {
+         if (i == lo || x[i - 1] != x[i]) {
+            passed++;
+            if (passed == k) {
+               return i;
+            }
+         }
+      }
+      return -passed - 1;
+   }
+
+
+   /**
+    * Returns the index of the median of three randomly chosen values
+    * of x[lo..hi].
+    */
+   private static int medianOfThree(int[] x, int lo, int hi) {
+      ThreadLocalRandom rng = ThreadLocalRandom.current();
+      int i = rng.nextInt(lo, hi + 1);
+      int j = rng.nextInt(lo, hi + 1);
+      int k = rng.nextInt(lo, hi + 1);
+      if (x[i] < x[j]) {
+         if (x[j] < x[k]) {
+            return j;
+         }
+         return (x[i] < x[k]) ? k : i;
+      }
+      if (x[i] < x[k]) {
+         return i;
+      }
+      return (x[j] < x[k]) ? k : j;
+   }
+
+
+   /** Same as medianOfThree(int[], int, int) for long values. */
+   private static int medianOfThree(long[] x, int lo, int hi) {
+      ThreadLocalRandom rng = ThreadLocalRandom.current();
+      int i = rng.nextInt(lo, hi + 1);
+      int j = rng.nextInt(lo, hi + 1);
+      int k = rng.nextInt(lo, hi + 1);
+      if (x[i] < x[j]) {
+         if (x[j] < x[k]) {
+            return j;
+         }
+         return (x[i] < x[k]) ? k : i;
+      }
+      if (x[i] < x[k]) {
+         return i;
+      }
+      return (x[j] < x[k]) ? k : j;
+   }
+
+
+   /** Sorts x[lo..hi] in place. */
+   private static void insertionSort(int[] x, int lo, int hi) {
+      for (int i = lo + 1; i <= hi; i++) {
+         int value = x[i];
+         int j = i - 1;
+         while (j >= lo && x[j] > value) {
+            x[j + 1] = x[j];
+            j--;
+         }
+         x[j + 1] = value;
+      }
+   }
+
+
+   /** Sorts x[lo..hi] in place. */
+   private static void insertionSort(long[] x, int lo, int hi) {
+      for (int i = lo + 1; i <= hi; i++) {
+         long value = x[i];
+         int j = i - 1;
+         while (j >= lo && x[j] > value) {
+            x[j + 1] = x[j];
+            j--;
+         }
+         x[j + 1] = value;
+      }
+   }
+
+
+   /** Exchanges x[i] and x[j]. */
+   private static void swap(int[] x, int i, int j) {
+      int tmp = x[i];
+      x[i] = x[j];
+      x[j] = tmp;
+   }
+
+
+   /** Exchanges x[i] and x[j]. */
+   private static void swap(long[] x, int i, int j) {
+      long tmp = x[i];
+      x[i] = x[j];
+      x[j] = tmp;
+   }
+}
@@ -0,0 +1,105 @@
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unmodifiable, lazily filtered view of the values of a collection
+ * that lie in [low..high] under a comparator. Nothing is copied: each
+ * iterator walks the backing collection and skips values out of range,
+ * so the view reflects later changes to it. size() and isEmpty() walk
+ * the collection too. When the collection is known to iterate in
+ * ascending order, walks stop at the first value above high.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class RangeView<T> extends AbstractCollection<T> {
+
+   private final Collection<T> coll;
+   private final T low;
+   private final T high;
+   private final Comparator<T> comp;
+   private final boolean ascending;
+
+
+   RangeView(Collection<T> coll, T low, T high, Comparator<T> comp) {
+      this(coll, low, high, comp, false);
+   }
+
+
+   /**
+    * Creates a view that stops at the first value above high if
+    * ascending is true, in which case coll must iterate in ascending
+    * order under comp.
+    */
+   RangeView(Collection<T> coll, T low, T high, Comparator<T> comp,
+             boolean ascending) {
+      this.coll = coll;
+      this.low = low;
+      this.high = high;
+      this.comp = comp;
+      this.ascending = ascending;
+   }
+
+
+   /** Returns true if value lies in [low..high]. */
+   boolean inRange(T value) {
+      return comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0;
+   }
+
+
+   @Override
+   public Iterator<T> iterator() {
+      return new Iterator<T>() {
+         private final Iterator<T> source = coll.iterator();
+         private T next;
+         private boolean ready;
+         private boolean done;
+
+         @Override
+         public boolean hasNext() {
+            while (!ready && !done && source.hasNext()) {
+               T value = source.next();
+               if (ascending && comp.compare(value, high) > 0) {
+                  done = true;
+               }
+               else if (inRange(value)) {
+                  next = value;
+                  ready = true;
+               }
+            }
+            return ready;
+         }
+
+         @Override
+         public T next() {
+            if (!hasNext()) {
+               throw new NoSuchElementException();
+            }
+            ready = false;
+            T value = next;
+            next = null;
+            return value;
+         }
+      };
+   }
+
+
+   @Override
+   public int size() {
+      int count = 0;
+      for (Iterator<T> i = iterator(); i.hasNext(); i.next()) {
+         count++;
+      }
+      return count;
+   }
+
+
+   @Override
+   public boolean isEmpty() {
+      return !iterator().hasNext();
+   }
+}
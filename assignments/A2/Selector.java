@@ -1,9 +1,17 @@
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 /**
  * Defines a library of selection methods on Collections.
@@ -24,6 +32,38 @@ public final class Selector {
    private Selector() { }
 
 
+   /**
+    * Returns a ParallelSelector that runs min, max, range, kmin, and
+    * kmax on the common fork/join pool with the default sequential
+    * threshold.
+    */
+   public static ParallelSelector parallel() {
+      return new ParallelSelector(ForkJoinPool.commonPool(),
+         ParallelSelector.DEFAULT_THRESHOLD);
+   }
+
+
+   /**
+    * Returns a read-only view of list that min, max, range, ceiling, and
+    * floor treat as sorted by comp, answering with binary search instead
+    * of a full scan when they are called with the same comp. The caller
+    * must keep list in ascending order under comp; results are
+    * unspecified otherwise. If either list or comp is null, or list is
+    * not RandomAccess, this method throws an IllegalArgumentException.
+    *
+    * @param list    the RandomAccess list, in ascending order under comp
+    * @param comp    the Comparator that orders list
+    * @return        a sorted view of list
+    * @throws        IllegalArgumentException as per above
+    */
+   public static <T> List<T> asSorted(List<T> list, Comparator<T> comp) {
+      if ((list == null) || (comp == null) || !(list instanceof RandomAccess)) {
+         throw new IllegalArgumentException();
+      }
+      return new SortedSource.SortedList<T>(list, comp);
+   }
+
+
    /**
     * Returns the minimum value in the Collection coll as defined by the
     * Comparator comp. If either coll or comp is null, this method throws an
@@ -37,12 +77,26 @@ public final class Selector {
     * @throws        NoSuchElementException as per above
     */
    public static <T> T min(Collection<T> coll, Comparator<T> comp) {
+      if (!SelectorMetrics.isEnabled() || (coll == null) || (comp == null)) {
+         return minOf(coll, comp);
+      }
+      try (SelectorMetrics.Call<T> call =
+            SelectorMetrics.start(SelectorMetrics.Method.MIN, coll, comp)) {
+         return minOf(coll, call.comparator());
+      }
+   }
+
+   /** Body of min, run with a counting Comparator when instrumented. */
+   private static <T> T minOf(Collection<T> coll, Comparator<T> comp) {
       if ((coll == null) || (comp == null)) {
          throw new IllegalArgumentException();
       }
       if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
+      if (SortedSource.isSorted(coll, comp)) {
+         return SortedSource.first(coll);
+      }
       if (coll.size() == 1) {
          return coll.iterator().next();
       }
@@ -69,12 +123,26 @@ public final class Selector {
     * @throws        NoSuchElementException as per above
     */
    public static <T> T max(Collection<T> coll, Comparator<T> comp) {
+      if (!SelectorMetrics.isEnabled() || (coll == null) || (comp == null)) {
+         return maxOf(coll, comp);
+      }
+      try (SelectorMetrics.Call<T> call =
+            SelectorMetrics.start(SelectorMetrics.Method.MAX, coll, comp)) {
+         return maxOf(coll, call.comparator());
+      }
+   }
+
+   /** Body of max, run with a counting Comparator when instrumented. */
+   private static <T> T maxOf(Collection<T> coll, Comparator<T> comp) {
       if ((coll == null) || (comp == null)) {
          throw new IllegalArgumentException();
       }
       if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
+      if (SortedSource.isSorted(coll, comp)) {
+         return SortedSource.last(coll);
+      }
       if (coll.size() == 1) {
          return coll.iterator().next();
       }
@@ -103,43 +171,26 @@ public final class Selector {
     * @throws        NoSuchElementException as per above
     */
    public static <T> T kmin(Collection<T> coll, int k, Comparator<T> comp) {
+      if (!SelectorMetrics.isEnabled() || (coll == null) || (comp == null)) {
+         return kminOf(coll, k, comp);
+      }
+      try (SelectorMetrics.Call<T> call =
+            SelectorMetrics.start(SelectorMetrics.Method.KMIN, coll, comp)) {
+         T value = kminOf(coll, k, call.comparator());
+         call.copied(coll.size());
+         return value;
+      }
+   }
+
+   /** Body of kmin, run with a counting Comparator when instrumented. */
+   private static <T> T kminOf(Collection<T> coll, int k, Comparator<T> comp) {
       if ((coll == null) || (comp == null)) {
          throw new IllegalArgumentException();
       }
       if (coll.isEmpty() || k < 1 || k > coll.size()) {
          throw new NoSuchElementException();
       }
-      if (coll.size() == 1 && k == 1) {
-         return coll.iterator().next();
-      }
-      
-      ArrayList<T> newArray = new ArrayList<T>(coll);
-      java.util.Collections.sort(newArray, comp);
-      
-      if (k > newArray.size() || k <= 0) {
-         throw new NoSuchElementException();
-      }
-         
-      int newCounter = 0;
-      int finalCounter = 0;
-      int size = newArray.size();
-      
-      for (int i = 0; i < newArray.size() - 1; i++) {
-         while (newArray.size() > 1 && i < newArray.size() - 1
-               && newArray.get(i) == newArray.get(i + 1)) {
-            newArray.remove(i);
-            newCounter++;
-         }
-         
-      }
-      finalCounter = size - newCounter;
-         
-      if ( k > finalCounter) {
-         throw new NoSuchElementException();
-      }
-     
-        
-      return newArray.get(k - 1);    
+      return ObjectSelect.kthDistinct(coll.toArray(), k, comp);
    }
 
    /**
@@ -157,44 +208,306 @@ public final class Selector {
     * @throws        NoSuchElementException as per above
     */
    public static <T> T kmax(Collection<T> coll, int k, Comparator<T> comp) {
+      if (!SelectorMetrics.isEnabled() || (coll == null) || (comp == null)) {
+         return kmaxOf(coll, k, comp);
+      }
+      try (SelectorMetrics.Call<T> call =
+            SelectorMetrics.start(SelectorMetrics.Method.KMAX, coll, comp)) {
+         T value = kmaxOf(coll, k, call.comparator());
+         call.copied(coll.size());
+         return value;
+      }
+   }
+
+   /** Body of kmax, run with a counting Comparator when instrumented. */
+   private static <T> T kmaxOf(Collection<T> coll, int k, Comparator<T> comp) {
       if ((coll == null) || (comp == null)) {
          throw new IllegalArgumentException();
       }
       if (coll.isEmpty() || k < 1 || k > coll.size()) {
          throw new NoSuchElementException();
       }
-      if (coll.size() == 1 && k == 1) {
-         return coll.iterator().next();
+      return ObjectSelect.kthDistinct(coll.toArray(), k,
+         Collections.reverseOrder(comp));
+   }
+
+   /**
+    * Selects a value from the Collection coll whose key is the kth minimum
+    * distinct key, where keyFn maps each value to its Comparable key. Each key
+    * is computed exactly once, so this is cheaper than kmin with a Comparator
+    * that derives keys on every comparison. Values with equal keys count as one
+    * value and the first of them, in iteration order, is returned. If either
+    * coll or keyFn is null, this method throws an IllegalArgumentException. If
+    * coll is empty or if there is no kth minimum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the value is selected
+    * @param k       the k-selection value
+    * @param keyFn   the function that extracts the key of each value
+    * @return        a value whose key is the kth smallest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T, K extends Comparable<? super K>> T kminBy(Collection<T> coll,
+         int k, Function<? super T, ? extends K> keyFn) {
+      if ((coll == null) || (keyFn == null)) {
+         throw new IllegalArgumentException();
       }
-      
-      ArrayList<T> newArray = new ArrayList<T>(coll);
-      java.util.Collections.sort(newArray, java.util.Collections.reverseOrder(comp));
-      
-      if (k > newArray.size() || k <= 0) {
+      if (coll.isEmpty() || k < 1 || k > coll.size()) {
          throw new NoSuchElementException();
       }
-         
-      int newCounter = 0;
-      int finalCounter = 0;
-      int size = newArray.size();
-      
-      for (int i = 0; i < newArray.size() - 1; i++) {
-         while (newArray.size() > 1 && i < newArray.size() - 1
-               && newArray.get(i) == newArray.get(i + 1)) {
-            newArray.remove(i);
-            newCounter++;
+      return KeySelect.kthByKey(coll, k, keyFn, Comparator.<K>naturalOrder(), false);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose key is the kth minimum
+    * distinct key, where keyFn maps each value to its int key. Each key is
+    * computed exactly once, so this is cheaper than kmin with a Comparator that
+    * derives keys on every comparison. Values with equal keys count as one value
+    * and the first of them, in iteration order, is returned. If either coll or
+    * keyFn is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no kth minimum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the value is selected
+    * @param k       the k-selection value
+    * @param keyFn   the function that extracts the key of each value
+    * @return        a value whose key is the kth smallest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kminByInt(Collection<T> coll, int k,
+                                 ToIntFunction<? super T> keyFn) {
+      if ((coll == null) || (keyFn == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty() || k < 1 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
+      return KeySelect.kthByInt(coll, k, keyFn, false);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose key is the kth minimum
+    * distinct key, where keyFn maps each value to its long key. Each key is
+    * computed exactly once, so this is cheaper than kmin with a Comparator that
+    * derives keys on every comparison. Values with equal keys count as one value
+    * and the first of them, in iteration order, is returned. If either coll or
+    * keyFn is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no kth minimum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the value is selected
+    * @param k       the k-selection value
+    * @param keyFn   the function that extracts the key of each value
+    * @return        a value whose key is the kth smallest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kminByLong(Collection<T> coll, int k,
+                                  ToLongFunction<? super T> keyFn) {
+      if ((coll == null) || (keyFn == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty() || k < 1 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
+      return KeySelect.kthByLong(coll, k, keyFn, false);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose key is the kth maximum
+    * distinct key, where keyFn maps each value to its Comparable key. Each key
+    * is computed exactly once, so this is cheaper than kmax with a Comparator
+    * that derives keys on every comparison. Values with equal keys count as one
+    * value and the first of them, in iteration order, is returned. If either
+    * coll or keyFn is null, this method throws an IllegalArgumentException. If
+    * coll is empty or if there is no kth maximum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the value is selected
+    * @param k       the k-selection value
+    * @param keyFn   the function that extracts the key of each value
+    * @return        a value whose key is the kth largest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T, K extends Comparable<? super K>> T kmaxBy(Collection<T> coll,
+         int k, Function<? super T, ? extends K> keyFn) {
+      if ((coll == null) || (keyFn == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty() || k < 1 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
+      return KeySelect.kthByKey(coll, k, keyFn, Comparator.<K>naturalOrder(), true);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose key is the kth maximum
+    * distinct key, where keyFn maps each value to its int key. Each key is
+    * computed exactly once, so this is cheaper than kmax with a Comparator that
+    * derives keys on every comparison. Values with equal keys count as one value
+    * and the first of them, in iteration order, is returned. If either coll or
+    * keyFn is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no kth maximum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the value is selected
+    * @param k       the k-selection value
+    * @param keyFn   the function that extracts the key of each value
+    * @return        a value whose key is the kth largest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kmaxByInt(Collection<T> coll, int k,
+                                 ToIntFunction<? super T> keyFn) {
+      if ((coll == null) || (keyFn == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty() || k < 1 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
+      return KeySelect.kthByInt(coll, k, keyFn, true);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose key is the kth maximum
+    * distinct key, where keyFn maps each value to its long key. Each key is
+    * computed exactly once, so this is cheaper than kmax with a Comparator that
+    * derives keys on every comparison. Values with equal keys count as one value
+    * and the first of them, in iteration order, is returned. If either coll or
+    * keyFn is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no kth maximum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the value is selected
+    * @param k       the k-selection value
+    * @param keyFn   the function that extracts the key of each value
+    * @return        a value whose key is the kth largest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kmaxByLong(Collection<T> coll, int k,
+                                  ToLongFunction<? super T> keyFn) {
+      if ((coll == null) || (keyFn == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty() || k < 1 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
+      return KeySelect.kthByLong(coll, k, keyFn, true);
+   }
+
+   /**
+    * Selects the k smallest distinct values in source as defined by the
+    * Comparator comp, in a single pass that keeps only k candidates.
+    * This takes O(n log k) time and O(k) extra space and works on any
+    * Iterable, including ones with no size. Values are distinct when
+    * comp does not return 0 for them; the first one seen is kept. If
+    * either source or comp is null, this method throws an
+    * IllegalArgumentException. If k < 1 or source has fewer than k
+    * distinct values, this method throws a NoSuchElementException. This
+    * method will not change source in any way.
+    *
+    * @param source  the values from which the smallest are selected
+    * @param k       the number of values to select
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the k smallest values in ascending order, and the kth
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> TopK<T> smallest(Iterable<T> source, int k, Comparator<T> comp) {
+      if ((source == null) || (comp == null)) {
+         throw new IllegalArgumentException();
+      }
+      return top(source, k, comp);
+   }
+
+   /**
+    * Same as smallest(Iterable, int, Comparator) for the elements of a
+    * Stream, which is consumed.
+    *
+    * @param source  the values from which the smallest are selected
+    * @param k       the number of values to select
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the k smallest values in ascending order, and the kth
+    * @throws        IllegalArgumentException if source or comp is null
+    * @throws        NoSuchElementException as per smallest(Iterable, ...)
+    */
+   public static <T> TopK<T> smallest(Stream<T> source, int k, Comparator<T> comp) {
+      if ((source == null) || (comp == null)) {
+         throw new IllegalArgumentException();
+      }
+      return top(source::iterator, k, comp);
+   }
+
+   /**
+    * Selects the k largest distinct values in source as defined by the
+    * Comparator comp, in a single pass that keeps only k candidates.
+    * This takes O(n log k) time and O(k) extra space and works on any
+    * Iterable, including ones with no size. Values are distinct when
+    * comp does not return 0 for them; the first one seen is kept. If
+    * either source or comp is null, this method throws an
+    * IllegalArgumentException. If k < 1 or source has fewer than k
+    * distinct values, this method throws a NoSuchElementException. This
+    * method will not change source in any way.
+    *
+    * @param source  the values from which the largest are selected
+    * @param k       the number of values to select
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the k largest values in descending order, and the kth
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> TopK<T> largest(Iterable<T> source, int k, Comparator<T> comp) {
+      if ((source == null) || (comp == null)) {
+         throw new IllegalArgumentException();
+      }
+      return top(source, k, Collections.reverseOrder(comp));
+   }
+
+   /**
+    * Same as largest(Iterable, int, Comparator) for the elements of a
+    * Stream, which is consumed.
+    *
+    * @param source  the values from which the largest are selected
+    * @param k       the number of values to select
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the k largest values in descending order, and the kth
+    * @throws        IllegalArgumentException if source or comp is null
+    * @throws        NoSuchElementException as per largest(Iterable, ...)
+    */
+   public static <T> TopK<T> largest(Stream<T> source, int k, Comparator<T> comp) {
+      if ((source == null) || (comp == null)) {
+         throw new IllegalArgumentException();
+      }
+      return top(source::iterator, k, Collections.reverseOrder(comp));
+   }
+
+   /**
+    * Shared body of smallest and largest: keeps the k best distinct
+    * values seen so far in a sorted set bounded at k, so that a new
+    * value costs one comparison against the current kth unless it
+    * displaces it.
+    */
+   private static <T> TopK<T> top(Iterable<T> source, int k, Comparator<T> comp) {
+      if (k < 1) {
+         throw new NoSuchElementException();
+      }
+      TreeSet<T> best = new TreeSet<T>(comp);
+      for (T value : source) {
+         if (best.size() < k) {
+            best.add(value);
+         }
+         else if (comp.compare(value, best.last()) < 0 && best.add(value)) {
+            best.pollLast();
          }
-         
       }
-      finalCounter = size - newCounter;
-         
-      if ( k > finalCounter) {
+      if (best.size() < k) {
          throw new NoSuchElementException();
       }
-     
-        
-      return newArray.get(k - 1);  
-   
+      return new TopK<T>(new ArrayList<T>(best));
    }
 
    /**
@@ -218,17 +531,32 @@ public final class Selector {
     */
    public static <T> Collection<T> range(Collection<T> coll, T low, T high,
                                          Comparator<T> comp) {
+      if (!SelectorMetrics.isEnabled() || (coll == null) || (comp == null)) {
+         return rangeOf(coll, low, high, comp);
+      }
+      try (SelectorMetrics.Call<T> call =
+            SelectorMetrics.start(SelectorMetrics.Method.RANGE, coll, comp)) {
+         Collection<T> result = rangeOf(coll, low, high, call.comparator());
+         call.copied(result.size());
+         return result;
+      }
+   }
+
+   /** Body of range, run with a counting Comparator when instrumented. */
+   private static <T> Collection<T> rangeOf(Collection<T> coll, T low, T high,
+                                           Comparator<T> comp) {
       if ((coll == null) || (comp == null)) {
          throw new IllegalArgumentException();
       }
       if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
-      List<T> copy = new ArrayList<T>(coll);
       List<T> newArray = new ArrayList<T>(0);
-      if (comp.compare(low, high) <= 0) {
-      
-         for (T value : copy) {
+      if (comp.compare(low, high) <= 0 && SortedSource.isSorted(coll, comp)) {
+         newArray = SortedSource.range(coll, low, high, comp);
+      }
+      else if (comp.compare(low, high) <= 0) {
+         for (T value : coll) {
             if (comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0) {
                newArray.add(value);
             }
@@ -240,6 +568,65 @@ public final class Selector {
       return newArray;
    }
    
+   /**
+    * Returns an unmodifiable view of the values in the Collection coll
+    * that are greater than or equal to low and less than or equal to
+    * high, as defined by the Comparator comp. Unlike range, nothing is
+    * copied and no exception is thrown when no value qualifies: the view
+    * filters coll as it is iterated, and so is empty if nothing is in
+    * range, or if low is greater than high. Its size() scans coll. For
+    * a sorted source (see asSorted) the view is a sub-range found by
+    * binary search. If either coll or comp is null, this method throws
+    * an IllegalArgumentException. This method will not change coll in
+    * any way.
+    *
+    * @param   coll the Collection from which the range values are selected
+    * @param   low the lower bound of the range
+    * @param   high the upper bound of the range
+    * @param   comp the Comparator that defines the total order on T
+    * @return  a view of the values between low and high
+    * @throws  IllegalArgumentException as per above
+    */
+   public static <T> Collection<T> rangeView(Collection<T> coll, T low, T high,
+                                             Comparator<T> comp) {
+      if ((coll == null) || (comp == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (comp.compare(low, high) > 0) {
+         return Collections.emptyList();
+      }
+      if (SortedSource.isSorted(coll, comp)) {
+         return SortedSource.rangeView(coll, low, high, comp);
+      }
+      return new RangeView<T>(coll, low, high, comp);
+   }
+
+   /**
+    * Returns a Stream of the values in the Collection coll that are
+    * greater than or equal to low and less than or equal to high, as
+    * defined by the Comparator comp, so that callers who only count or
+    * forward the values never collect them. The Stream is sequential;
+    * call parallel() on it to split the filtering across threads. It is
+    * empty if no value qualifies. If either coll or comp is null, this
+    * method throws an IllegalArgumentException. This method will not
+    * change coll in any way.
+    *
+    * @param   coll the Collection from which the range values are selected
+    * @param   low the lower bound of the range
+    * @param   high the upper bound of the range
+    * @param   comp the Comparator that defines the total order on T
+    * @return  a Stream of the values between low and high
+    * @throws  IllegalArgumentException as per above
+    */
+   public static <T> Stream<T> rangeStream(Collection<T> coll, T low, T high,
+                                           Comparator<T> comp) {
+      Collection<T> view = rangeView(coll, low, high, comp);
+      if (view instanceof RangeView) {
+         return coll.stream().filter(((RangeView<T>) view)::inRange);
+      }
+      return view.stream();
+   }
+   
    /**
     * Returns the smallest value in the Collection coll that is greater than
     * or equal to key, as defined by the Comparator comp. The value of key
@@ -256,18 +643,43 @@ public final class Selector {
     * @throws        NoSuchElementException as per above
     */
    public static <T> T ceiling(Collection<T> coll, T key, Comparator<T> comp) {
+      if (!SelectorMetrics.isEnabled() || (coll == null) || (comp == null)) {
+         return ceilingOf(coll, key, comp);
+      }
+      try (SelectorMetrics.Call<T> call =
+            SelectorMetrics.start(SelectorMetrics.Method.CEILING, coll, comp)) {
+         return ceilingOf(coll, key, call.comparator());
+      }
+   }
+
+   /** Body of ceiling, run with a counting Comparator when instrumented. */
+   private static <T> T ceilingOf(Collection<T> coll, T key, Comparator<T> comp) {
       if ((coll == null) || (comp == null)) {
          throw new IllegalArgumentException();
       }
       if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
-      Collection<T> range = range(coll, key, (max(coll, comp)), comp);
-      if (range.isEmpty()) {
+      if (SortedSource.isSorted(coll, comp)) {
+         T value = SortedSource.ceiling(coll, key, comp);
+         if (value == null) {
+            throw new NoSuchElementException();
+         }
+         return value;
+      }
+      boolean found = false;
+      T best = null;
+      for (T value : coll) {
+         if (comp.compare(value, key) >= 0
+               && (!found || comp.compare(value, best) < 0)) {
+            best = value;
+            found = true;
+         }
+      }
+      if (!found) {
          throw new NoSuchElementException();
       }
-      T value = min(range, comp);
-      return value;
+      return best;
    }
    
 
@@ -288,17 +700,120 @@ public final class Selector {
     * @throws        NoSuchElementException as per above
     */
    public static <T> T floor(Collection<T> coll, T key, Comparator<T> comp) {
+      if (!SelectorMetrics.isEnabled() || (coll == null) || (comp == null)) {
+         return floorOf(coll, key, comp);
+      }
+      try (SelectorMetrics.Call<T> call =
+            SelectorMetrics.start(SelectorMetrics.Method.FLOOR, coll, comp)) {
+         return floorOf(coll, key, call.comparator());
+      }
+   }
+
+   /** Body of floor, run with a counting Comparator when instrumented. */
+   private static <T> T floorOf(Collection<T> coll, T key, Comparator<T> comp) {
+      if ((coll == null) || (comp == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      if (SortedSource.isSorted(coll, comp)) {
+         T value = SortedSource.floor(coll, key, comp);
+         if (value == null) {
+            throw new NoSuchElementException();
+         }
+         return value;
+      }
+      boolean found = false;
+      T best = null;
+      for (T value : coll) {
+         if (comp.compare(value, key) <= 0
+               && (!found || comp.compare(value, best) > 0)) {
+            best = value;
+            found = true;
+         }
+      }
+      if (!found) {
+         throw new NoSuchElementException();
+      }
+      return best;
+   }
+
+
+   /**
+    * Returns both the ceiling and the floor of key in the Collection
+    * coll, as defined by the Comparator comp, in a single pass over coll
+    * that compares each value with key once, plus once with the current
+    * best candidate on its side. The result reports a missing ceiling or
+    * floor rather than throwing. If coll or comp is null, this method
+    * throws an IllegalArgumentException. If coll is empty, this method
+    * throws a NoSuchElementException. This method will not change coll
+    * in any way.
+    *
+    * @param coll    the Collection from which the values are selected
+    * @param key     the reference value
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the ceiling and floor values of key in coll
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> CeilingFloor<T> ceilingAndFloor(Collection<T> coll, T key,
+                                                     Comparator<T> comp) {
       if ((coll == null) || (comp == null)) {
          throw new IllegalArgumentException();
       }
       if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
-      Collection<T> range = range(coll, (min(coll, comp)), key, comp);
-      if (range.isEmpty()) {
+      if (SortedSource.isSorted(coll, comp)) {
+         T ceiling = SortedSource.ceiling(coll, key, comp);
+         T floor = SortedSource.floor(coll, key, comp);
+         return new CeilingFloor<T>(ceiling, ceiling != null, floor, floor != null);
+      }
+      boolean hasCeiling = false;
+      boolean hasFloor = false;
+      T ceiling = null;
+      T floor = null;
+      for (T value : coll) {
+         int c = comp.compare(value, key);
+         if (c >= 0 && (!hasCeiling || comp.compare(value, ceiling) < 0)) {
+            ceiling = value;
+            hasCeiling = true;
+         }
+         if (c <= 0 && (!hasFloor || comp.compare(value, floor) > 0)) {
+            floor = value;
+            hasFloor = true;
+         }
+      }
+      return new CeilingFloor<T>(ceiling, hasCeiling, floor, hasFloor);
+   }
+
+
+   /**
+    * Computes every statistic declared by spec over the Collection coll,
+    * as defined by the Comparator comp, in a single pass over coll. Asking
+    * for N statistics costs one traversal rather than N; each value is
+    * compared about log2(m) + 2 times, where m is the number of range
+    * bounds and keys in spec. If coll, comp, or spec is null, this method
+    * throws an IllegalArgumentException. If coll is empty, this method
+    * throws a NoSuchElementException. This method will not change coll in
+    * any way.
+    *
+    * @param coll    the Collection to summarize
+    * @param comp    the Comparator that defines the total order on T
+    * @param spec    the statistics to compute
+    * @return        an immutable summary of coll
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> Summary<T> summarize(Collection<T> coll, Comparator<T> comp,
+                                          SummarySpec<T> spec) {
+      if ((coll == null) || (comp == null) || (spec == null)) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
-      T value = max(range, comp);
-      return value;
+      return Summary.of(coll, comp, spec);
    }
 }
@@ -0,0 +1,183 @@
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.stream.Collector;
+
+/**
+ * Collector versions of Selector methods, for use at the end of a
+ * Stream pipeline without collecting into a Collection first. Each
+ * keeps bounded state: kmin and kmax hold at most k values, ceiling and
+ * floor one candidate, and rangeCount one counter. Partial results of a
+ * parallel stream are merged in O(k) or O(1). Results and exceptions
+ * match the corresponding Selector methods, applied to the elements of
+ * the stream; ties go to the element that comes first in the stream.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class SelectorCollectors {
+
+   private SelectorCollectors() { }
+
+
+   /**
+    * Returns a Collector that selects the kth minimum distinct element
+    * as defined by comp. The collector throws NoSuchElementException
+    * when it finishes if there is no kth minimum element. This method
+    * throws IllegalArgumentException if comp is null.
+    */
+   public static <T> Collector<T, ?, T> kmin(int k, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      return kth(k, comp);
+   }
+
+
+   /**
+    * Returns a Collector that selects the kth maximum distinct element
+    * as defined by comp. The collector throws NoSuchElementException
+    * when it finishes if there is no kth maximum element. This method
+    * throws IllegalArgumentException if comp is null.
+    */
+   public static <T> Collector<T, ?, T> kmax(int k, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      return kth(k, Collections.reverseOrder(comp));
+   }
+
+
+   /**
+    * Returns a Collector that selects the smallest element greater
+    * than or equal to key as defined by comp. The collector throws
+    * NoSuchElementException when it finishes if there is none. This
+    * method throws IllegalArgumentException if comp is null.
+    */
+   public static <T> Collector<T, ?, T> ceiling(T key, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      return best(key, comp);
+   }
+
+
+   /**
+    * Returns a Collector that selects the largest element less than or
+    * equal to key as defined by comp. The collector throws
+    * NoSuchElementException when it finishes if there is none. This
+    * method throws IllegalArgumentException if comp is null.
+    */
+   public static <T> Collector<T, ?, T> floor(T key, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      return best(key, Collections.reverseOrder(comp));
+   }
+
+
+   /**
+    * Returns a Collector that counts the elements in [low..high] as
+    * defined by comp, including duplicates. The count is 0 if none
+    * qualify. This method throws IllegalArgumentException if comp is
+    * null.
+    */
+   public static <T> Collector<T, ?, Long> rangeCount(T low, T high,
+                                                     Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      return Collector.of(
+         () -> new long[1],
+         (count, value) -> {
+            if (comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0) {
+               count[0]++;
+            }
+         },
+         (x, y) -> {
+            x[0] += y[0];
+            return x;
+         },
+         count -> count[0],
+         Collector.Characteristics.UNORDERED);
+   }
+
+
+   /**
+    * Collector for the kth smallest distinct element under comp, kept
+    * as a sorted set of at most k candidates.
+    */
+   private static <T> Collector<T, ?, T> kth(int k, Comparator<T> comp) {
+      return Collector.<T, TreeSet<T>, T>of(
+         () -> new TreeSet<T>(comp),
+         (best, value) -> offer(best, value, k, comp),
+         (x, y) -> {
+            for (T value : y) {
+               offer(x, value, k, comp);
+            }
+            return x;
+         },
+         best -> {
+            if (k < 1 || best.size() < k) {
+               throw new NoSuchElementException();
+            }
+            return best.last();
+         });
+   }
+
+
+   /** Adds value to best if it is among the k smallest seen so far. */
+   private static <T> void offer(TreeSet<T> best, T value, int k,
+                                 Comparator<T> comp) {
+      if (best.size() < k) {
+         best.add(value);
+      }
+      else if (k > 0 && comp.compare(value, best.last()) < 0 && best.add(value)) {
+         best.pollLast();
+      }
+   }
+
+
+   /**
+    * Collector for the smallest element not below key under comp,
+    * which is the ceiling under comp and the floor under its reverse.
+    */
+   private static <T> Collector<T, ?, T> best(T key, Comparator<T> comp) {
+      return Collector.<T, Candidate<T>, T>of(
+         Candidate::new,
+         (c, value) -> {
+            if (comp.compare(value, key) >= 0) {
+               c.offer(value, comp);
+            }
+         },
+         (x, y) -> {
+            if (y.found) {
+               x.offer(y.value, comp);
+            }
+            return x;
+         },
+         c -> {
+            if (!c.found) {
+               throw new NoSuchElementException();
+            }
+            return c.value;
+         });
+   }
+
+
+   /** The best element seen so far, if any. */
+   private static final class Candidate<T> {
+      private T value;
+      private boolean found;
+
+      /** Keeps value if it is strictly better than the current one. */
+      void offer(T other, Comparator<T> comp) {
+         if (!found || comp.compare(other, value) < 0) {
+            value = other;
+            found = true;
+         }
+      }
+   }
+}
@@ -0,0 +1,32 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one instrumented Selector call, committed when
+ * SelectorMetrics is enabled and a recording has the event turned on.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+@Name("comp2210.SelectorCall")
+@Label("Selector Call")
+@Category("COMP 2210")
+@Description("One call to an instrumented Selector method")
+final class SelectorEvent extends Event {
+
+   @Label("Method")
+   String method;
+
+   @Label("Collection Size")
+   int size;
+
+   @Label("Comparisons")
+   long comparisons;
+
+   @Label("Element Copies")
+   long copies;
+}
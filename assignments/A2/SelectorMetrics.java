@@ -0,0 +1,182 @@
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation for the Selector methods min, max, kmin, kmax,
+ * range, ceiling, and floor. While enabled, each call runs with its
+ * Comparator wrapped in a CountingComparator and adds its comparisons,
+ * element copies, and elapsed time to per-method totals. Each call is
+ * also emitted as a SelectorEvent for JFR recordings. While disabled
+ * (the default), the only cost is one volatile read per call.
+ *
+ * Element copies are the elements a method writes into storage of its
+ * own: the snapshot taken by kmin and kmax, and the result of range.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class SelectorMetrics {
+
+   /** The instrumented Selector methods. */
+   public enum Method { MIN, MAX, KMIN, KMAX, RANGE, CEILING, FLOOR }
+
+   private static volatile boolean enabled;
+
+   private static final Map<Method, Totals> TOTALS =
+      new EnumMap<Method, Totals>(Method.class);
+
+   static {
+      for (Method m : Method.values()) {
+         TOTALS.put(m, new Totals());
+      }
+   }
+
+   private SelectorMetrics() { }
+
+
+   /** Turns instrumentation on or off. */
+   public static void setEnabled(boolean on) {
+      enabled = on;
+   }
+
+
+   /** Returns true if instrumentation is on. */
+   public static boolean isEnabled() {
+      return enabled;
+   }
+
+
+   /** Sets every total back to zero. */
+   public static void reset() {
+      for (Totals t : TOTALS.values()) {
+         t.calls.reset();
+         t.comparisons.reset();
+         t.copies.reset();
+         t.nanos.reset();
+      }
+   }
+
+
+   /** Returns a copy of the current totals. */
+   public static Snapshot snapshot() {
+      return new Snapshot();
+   }
+
+
+   /**
+    * Starts timing one call of method on coll with comp. The caller
+    * must pass call.comparator() on in place of comp and close the
+    * call when it returns.
+    */
+   static <T> Call<T> start(Method method, Collection<?> coll, Comparator<T> comp) {
+      return new Call<T>(method, coll, comp);
+   }
+
+
+   /** One instrumented call in progress. */
+   static final class Call<T> implements AutoCloseable {
+      private final Method method;
+      private final CountingComparator<T> comp;
+      private final SelectorEvent event = new SelectorEvent();
+      private final int size;
+      private final long start;
+      private long copies;
+
+      Call(Method method, Collection<?> coll, Comparator<T> comp) {
+         this.method = method;
+         this.comp = new CountingComparator<T>(comp);
+         this.size = (coll == null) ? 0 : coll.size();
+         event.begin();
+         this.start = System.nanoTime();
+      }
+
+      /** Returns the counting Comparator the call must use. */
+      Comparator<T> comparator() {
+         return comp;
+      }
+
+      /** Records that the call copied n elements. */
+      void copied(long n) {
+         copies += n;
+      }
+
+      /** Adds this call to the totals and emits its event. */
+      @Override
+      public void close() {
+         long elapsed = System.nanoTime() - start;
+         Totals t = TOTALS.get(method);
+         t.calls.increment();
+         t.comparisons.add(comp.count());
+         t.copies.add(copies);
+         t.nanos.add(elapsed);
+         event.end();
+         if (event.shouldCommit()) {
+            event.method = method.name();
+            event.size = size;
+            event.comparisons = comp.count();
+            event.copies = copies;
+            event.commit();
+         }
+      }
+   }
+
+
+   /** Running totals for one method. */
+   private static final class Totals {
+      private final LongAdder calls = new LongAdder();
+      private final LongAdder comparisons = new LongAdder();
+      private final LongAdder copies = new LongAdder();
+      private final LongAdder nanos = new LongAdder();
+   }
+
+
+   /** An immutable copy of the per-method totals. */
+   public static final class Snapshot {
+      private final Map<Method, long[]> values = new EnumMap<Method, long[]>(Method.class);
+
+      private Snapshot() {
+         for (Method m : Method.values()) {
+            Totals t = TOTALS.get(m);
+            values.put(m, new long[] {t.calls.sum(), t.comparisons.sum(),
+               t.copies.sum(), t.nanos.sum()});
+         }
+      }
+
+      /** Returns the number of calls to m. */
+      public long calls(Method m) {
+         return values.get(m)[0];
+      }
+
+      /** Returns the number of comparisons made by calls to m. */
+      public long comparisons(Method m) {
+         return values.get(m)[1];
+      }
+
+      /** Returns the number of elements copied by calls to m. */
+      public long copies(Method m) {
+         return values.get(m)[2];
+      }
+
+      /** Returns the time spent in calls to m, in nanoseconds. */
+      public long nanos(Method m) {
+         return values.get(m)[3];
+      }
+
+      /** Returns one line per method that has been called. */
+      @Override
+      public String toString() {
+         StringBuilder s = new StringBuilder("method, calls, comparisons, copies, ms");
+         for (Method m : Method.values()) {
+            if (calls(m) > 0) {
+               s.append(String.format("%n%s, %d, %d, %d, %.3f", m, calls(m),
+                  comparisons(m), copies(m), nanos(m) / 1_000_000d));
+            }
+         }
+         return s.toString();
+      }
+   }
+}
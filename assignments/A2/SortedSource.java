@@ -0,0 +1,284 @@
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.RandomAccess;
+import java.util.SortedSet;
+
+/**
+ * Fast paths for the Selector queries on sources already kept in the
+ * order of the query comparator: a SortedSet whose comparator matches,
+ * or a RandomAccess list marked sorted with Selector.asSorted. These
+ * sources answer min and max in O(1), ceiling, floor, and range in
+ * O(log n) plus the size of the answer, and rangeView in O(log n).
+ *
+ * Every query returns null when it has no answer; callers turn that
+ * into the NoSuchElementException of the Selector contract.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+final class SortedSource {
+
+   private SortedSource() { }
+
+
+   /**
+    * Returns true if coll is known to iterate in ascending order under
+    * comp.
+    */
+   static boolean isSorted(Collection<?> coll, Comparator<?> comp) {
+      if (coll instanceof SortedSet) {
+         return sameOrder(((SortedSet<?>) coll).comparator(), comp);
+      }
+      if (coll instanceof SortedList) {
+         return sameOrder(((SortedList<?>) coll).comp, comp);
+      }
+      return false;
+   }
+
+
+   /** Returns the smallest value of the non-empty sorted source coll. */
+   static <T> T first(Collection<T> coll) {
+      if (coll instanceof SortedSet) {
+         return ((SortedSet<T>) coll).first();
+      }
+      return ((SortedList<T>) coll).get(0);
+   }
+
+
+   /** Returns the largest value of the non-empty sorted source coll. */
+   static <T> T last(Collection<T> coll) {
+      if (coll instanceof SortedSet) {
+         return ((SortedSet<T>) coll).last();
+      }
+      SortedList<T> list = (SortedList<T>) coll;
+      return list.get(list.size() - 1);
+   }
+
+
+   /**
+    * Returns the smallest value of the sorted source coll that is at
+    * least key, or null if there is none.
+    */
+   static <T> T ceiling(Collection<T> coll, T key, Comparator<T> comp) {
+      if (coll instanceof NavigableSet) {
+         return ((NavigableSet<T>) coll).ceiling(key);
+      }
+      if (coll instanceof SortedSet) {
+         for (T value : tailOrAll((SortedSet<T>) coll, key)) {
+            if (comp.compare(value, key) >= 0) {
+               return value;
+            }
+         }
+         return null;
+      }
+      List<T> list = (SortedList<T>) coll;
+      int i = lowerBound(list, key, comp);
+      return (i < list.size()) ? list.get(i) : null;
+   }
+
+
+   /**
+    * Returns the largest value of the sorted source coll that is at
+    * most key, or null if there is none.
+    */
+   static <T> T floor(Collection<T> coll, T key, Comparator<T> comp) {
+      if (coll instanceof NavigableSet) {
+         return ((NavigableSet<T>) coll).floor(key);
+      }
+      if (coll instanceof SortedSet) {
+         SortedSet<T> set = (SortedSet<T>) coll;
+         try {
+            SortedSet<T> tail = set.tailSet(key);
+            if (!tail.isEmpty() && comp.compare(tail.first(), key) == 0) {
+               return tail.first();
+            }
+            SortedSet<T> head = set.headSet(key);
+            return head.isEmpty() ? null : head.last();
+         }
+         catch (IllegalArgumentException e) {
+            // key lies outside a bounded view; scan it in order instead
+            T best = null;
+            for (T value : set) {
+               if (comp.compare(value, key) > 0) {
+                  break;
+               }
+               best = value;
+            }
+            return best;
+         }
+      }
+      List<T> list = (SortedList<T>) coll;
+      int i = upperBound(list, key, comp);
+      return (i > 0) ? list.get(i - 1) : null;
+   }
+
+
+   /**
+    * Returns a new list of the values of the sorted source coll in
+    * [low..high], in ascending order. low must not exceed high.
+    */
+   static <T> List<T> range(Collection<T> coll, T low, T high,
+                            Comparator<T> comp) {
+      if (coll instanceof NavigableSet) {
+         return new ArrayList<T>(subSet((NavigableSet<T>) coll, low, high, comp));
+      }
+      if (coll instanceof SortedSet) {
+         List<T> values = new ArrayList<T>();
+         for (T value : tailOrAll((SortedSet<T>) coll, low)) {
+            if (comp.compare(value, high) > 0) {
+               break;
+            }
+            if (comp.compare(value, low) >= 0) {
+               values.add(value);
+            }
+         }
+         return values;
+      }
+      List<T> list = (SortedList<T>) coll;
+      return new ArrayList<T>(list.subList(lowerBound(list, low, comp),
+                                           upperBound(list, high, comp)));
+   }
+
+
+   /**
+    * Returns an unmodifiable view of the values of the sorted source
+    * coll in [low..high]. low must not exceed high. For a NavigableSet
+    * the view is bounded by the first and last values in range at the
+    * time of the call.
+    */
+   static <T> Collection<T> rangeView(Collection<T> coll, T low, T high,
+                                      Comparator<T> comp) {
+      if (coll instanceof NavigableSet) {
+         return Collections.unmodifiableSet(subSet((NavigableSet<T>) coll, low, high, comp));
+      }
+      if (coll instanceof SortedSet) {
+         return new RangeView<T>(tailOrAll((SortedSet<T>) coll, low), low, high, comp, true);
+      }
+      List<T> list = (SortedList<T>) coll;
+      return Collections.unmodifiableList(list.subList(lowerBound(list, low, comp),
+                                                       upperBound(list, high, comp)));
+   }
+
+
+   /**
+    * Returns the values of set in [low..high]. The bounds passed to
+    * subSet are values of set, so this also works on a bounded view
+    * such as the result of another subSet call, which rejects keys
+    * outside its own range.
+    */
+   private static <T> SortedSet<T> subSet(NavigableSet<T> set, T low, T high,
+                                          Comparator<T> comp) {
+      T from = set.ceiling(low);
+      T to = set.floor(high);
+      if (from == null || to == null || comp.compare(from, to) > 0) {
+         return Collections.emptySortedSet();
+      }
+      return set.subSet(from, true, to, true);
+   }
+
+
+   /**
+    * Returns set.tailSet(key), or all of set if it is a bounded view
+    * that rejects key as out of range. Callers must still check the
+    * values they iterate against key.
+    */
+   private static <T> SortedSet<T> tailOrAll(SortedSet<T> set, T key) {
+      try {
+         return set.tailSet(key);
+      }
+      catch (IllegalArgumentException e) {
+         return set;
+      }
+   }
+
+
+   /** Returns the index of the first value in list not below key. */
+   private static <T> int lowerBound(List<T> list, T key, Comparator<T> comp) {
+      int lo = 0;
+      int hi = list.size();
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (comp.compare(list.get(mid), key) < 0) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+
+   /** Returns the index of the first value in list above key. */
+   private static <T> int upperBound(List<T> list, T key, Comparator<T> comp) {
+      int lo = 0;
+      int hi = list.size();
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (comp.compare(list.get(mid), key) <= 0) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+
+   /**
+    * Returns true if a source ordered by own is ordered by comp. A null
+    * comparator means natural ordering. A CountingComparator, on
+    * either side, is judged by the Comparator it wraps, so instrumented
+    * calls and sources built with an instrumented comparator keep their
+    * fast paths.
+    */
+   private static boolean sameOrder(Comparator<?> own, Comparator<?> comp) {
+      own = unwrap(own);
+      comp = unwrap(comp);
+      if (own == null || own == Comparator.naturalOrder()) {
+         return comp == null || comp == Comparator.naturalOrder();
+      }
+      return own == comp || own.equals(comp);
+   }
+
+
+   /** Returns comp with any CountingComparator wrappers removed. */
+   private static Comparator<?> unwrap(Comparator<?> comp) {
+      while (comp instanceof CountingComparator) {
+         comp = ((CountingComparator<?>) comp).delegate();
+      }
+      return comp;
+   }
+
+
+   /**
+    * A read-only view of a RandomAccess list that the caller has
+    * declared to be sorted by comp.
+    */
+   static final class SortedList<T> extends AbstractList<T> implements RandomAccess {
+      private final List<T> list;
+      private final Comparator<T> comp;
+
+      SortedList(List<T> list, Comparator<T> comp) {
+         this.list = list;
+         this.comp = comp;
+      }
+
+      @Override
+      public T get(int index) {
+         return list.get(index);
+      }
+
+      @Override
+      public int size() {
+         return list.size();
+      }
+   }
+}
@@ -0,0 +1,315 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The statistics of a SummarySpec over one collection, computed by
+ * Selector.summarize in a single pass. Summaries are immutable.
+ *
+ * Every range bound and every ceiling or floor key of the spec becomes
+ * a cut point. The sorted, distinct cut points divide the values into
+ * slots: the values equal to each cut point, and the values strictly
+ * between neighbouring cut points. During the pass each value is
+ * placed in its slot by binary search, and each slot keeps only its
+ * count, its smallest and largest values, and (for a cut point) the
+ * first value equal to it. Every statistic is then read off the slots,
+ * so a value costs about log2(cut points) + 2 comparisons no matter
+ * how many statistics were requested.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class Summary<T> {
+
+   // marks a missing ceiling or floor, since values may be null
+   private static final Object NONE = new Object();
+
+   private final Comparator<T> comp;
+   private final SummarySpec<T> spec;
+
+   // sorted distinct cut points
+   private final List<T> cuts;
+
+   // slot j between cuts j - 1 and j; slot cuts.size() is above them all
+   private final long[] betweenCount;
+   private final List<T> betweenMin;
+   private final List<T> betweenMax;
+
+   // values equal to each cut point
+   private final long[] atCount;
+   private final List<T> atValue;
+
+
+   private Summary(Collection<T> coll, Comparator<T> comp, SummarySpec<T> spec) {
+      this.comp = comp;
+      this.spec = spec;
+      List<T> points = new ArrayList<T>();
+      points.addAll(spec.lows());
+      points.addAll(spec.highs());
+      points.addAll(spec.ceilings());
+      points.addAll(spec.floors());
+      points.sort(comp);
+      cuts = new ArrayList<T>();
+      for (T point : points) {
+         if (cuts.isEmpty() || comp.compare(cuts.get(cuts.size() - 1), point) != 0) {
+            cuts.add(point);
+         }
+      }
+      int p = cuts.size();
+      betweenCount = new long[p + 1];
+      betweenMin = new ArrayList<T>(p + 1);
+      betweenMax = new ArrayList<T>(p + 1);
+      atCount = new long[p];
+      atValue = new ArrayList<T>(p);
+      for (int j = 0; j <= p; j++) {
+         betweenMin.add(null);
+         betweenMax.add(null);
+         if (j < p) {
+            atValue.add(null);
+         }
+      }
+      for (T value : coll) {
+         add(value);
+      }
+   }
+
+
+   /** Computes the summary of coll for spec in one pass. */
+   static <T> Summary<T> of(Collection<T> coll, Comparator<T> comp,
+                            SummarySpec<T> spec) {
+      return new Summary<T>(coll, comp, spec);
+   }
+
+
+   /** Places value in its slot. */
+   private void add(T value) {
+      int lo = 0;
+      int hi = cuts.size();
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         int c = comp.compare(cuts.get(mid), value);
+         if (c == 0) {
+            if (atCount[mid]++ == 0) {
+               atValue.set(mid, value);
+            }
+            return;
+         }
+         if (c < 0) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      if (betweenCount[lo]++ == 0) {
+         betweenMin.set(lo, value);
+         betweenMax.set(lo, value);
+         return;
+      }
+      if (comp.compare(value, betweenMin.get(lo)) < 0) {
+         betweenMin.set(lo, value);
+      }
+      else if (comp.compare(value, betweenMax.get(lo)) > 0) {
+         betweenMax.set(lo, value);
+      }
+   }
+
+
+   /**
+    * Returns the minimum value. This method throws
+    * IllegalStateException if the spec did not request it.
+    */
+   @SuppressWarnings("unchecked")
+   public T min() {
+      if (!spec.min()) {
+         throw new IllegalStateException();
+      }
+      return (T) ceilingFrom(0);
+   }
+
+
+   /**
+    * Returns the maximum value. This method throws
+    * IllegalStateException if the spec did not request it.
+    */
+   @SuppressWarnings("unchecked")
+   public T max() {
+      if (!spec.max()) {
+         throw new IllegalStateException();
+      }
+      return (T) floorFrom(cuts.size());
+   }
+
+
+   /**
+    * Returns the number of values in [low..high], counting duplicates.
+    * This method throws IllegalArgumentException if the spec did not
+    * request that range.
+    */
+   public long rangeCount(T low, T high) {
+      boolean requested = false;
+      for (int i = 0; i < spec.lows().size() && !requested; i++) {
+         requested = comp.compare(spec.lows().get(i), low) == 0
+            && comp.compare(spec.highs().get(i), high) == 0;
+      }
+      if (!requested) {
+         throw new IllegalArgumentException();
+      }
+      if (comp.compare(low, high) > 0) {
+         return 0;
+      }
+      int a = indexOf(low);
+      int b = indexOf(high);
+      long count = 0;
+      for (int j = a; j <= b; j++) {
+         count += atCount[j];
+         if (j > a) {
+            count += betweenCount[j];
+         }
+      }
+      return count;
+   }
+
+
+   /**
+    * Returns true if some value is greater than or equal to key. This
+    * method throws IllegalArgumentException if the spec did not request
+    * the ceiling of key.
+    */
+   public boolean hasCeiling(T key) {
+      return ceilingOf(key) != NONE;
+   }
+
+
+   /**
+    * Returns the smallest value greater than or equal to key. This
+    * method throws IllegalArgumentException if the spec did not request
+    * the ceiling of key, and NoSuchElementException if there is no such
+    * value.
+    */
+   @SuppressWarnings("unchecked")
+   public T ceiling(T key) {
+      Object value = ceilingOf(key);
+      if (value == NONE) {
+         throw new NoSuchElementException();
+      }
+      return (T) value;
+   }
+
+
+   /**
+    * Returns true if some value is less than or equal to key. This
+    * method throws IllegalArgumentException if the spec did not request
+    * the floor of key.
+    */
+   public boolean hasFloor(T key) {
+      return floorOf(key) != NONE;
+   }
+
+
+   /**
+    * Returns the largest value less than or equal to key. This method
+    * throws IllegalArgumentException if the spec did not request the
+    * floor of key, and NoSuchElementException if there is no such
+    * value.
+    */
+   @SuppressWarnings("unchecked")
+   public T floor(T key) {
+      Object value = floorOf(key);
+      if (value == NONE) {
+         throw new NoSuchElementException();
+      }
+      return (T) value;
+   }
+
+
+   /** Returns the ceiling of the requested key, or NONE. */
+   private Object ceilingOf(T key) {
+      if (!contains(spec.ceilings(), key)) {
+         throw new IllegalArgumentException();
+      }
+      int c = indexOf(key);
+      if (atCount[c] > 0) {
+         return atValue.get(c);
+      }
+      return ceilingFrom(c + 1);
+   }
+
+
+   /** Returns the floor of the requested key, or NONE. */
+   private Object floorOf(T key) {
+      if (!contains(spec.floors(), key)) {
+         throw new IllegalArgumentException();
+      }
+      int c = indexOf(key);
+      if (atCount[c] > 0) {
+         return atValue.get(c);
+      }
+      return floorFrom(c);
+   }
+
+
+   /**
+    * Returns the smallest value in slot j or above, starting with the
+    * values between cuts j - 1 and j, or NONE if there is none.
+    */
+   private Object ceilingFrom(int j) {
+      for (int s = j; s <= cuts.size(); s++) {
+         if (betweenCount[s] > 0) {
+            return betweenMin.get(s);
+         }
+         if (s < cuts.size() && atCount[s] > 0) {
+            return atValue.get(s);
+         }
+      }
+      return NONE;
+   }
+
+
+   /**
+    * Returns the largest value in slot j or below, starting with the
+    * values between cuts j - 1 and j, or NONE if there is none.
+    */
+   private Object floorFrom(int j) {
+      for (int s = j; s >= 0; s--) {
+         if (betweenCount[s] > 0) {
+            return betweenMax.get(s);
+         }
+         if (s > 0 && atCount[s - 1] > 0) {
+            return atValue.get(s - 1);
+         }
+      }
+      return NONE;
+   }
+
+
+   /** Returns the index of the cut point equal to key, which must exist. */
+   private int indexOf(T key) {
+      int lo = 0;
+      int hi = cuts.size() - 1;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (comp.compare(cuts.get(mid), key) < 0) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+
+   /** Returns true if keys holds a key equal to key under comp. */
+   private boolean contains(List<T> keys, T key) {
+      for (T k : keys) {
+         if (comp.compare(k, key) == 0) {
+            return true;
+         }
+      }
+      return false;
+   }
+}
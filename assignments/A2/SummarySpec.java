@@ -0,0 +1,130 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Declares the statistics that Selector.summarize computes in its
+ * single pass: the minimum, the maximum, the number of values in each
+ * of a list of [low..high] ranges, and the ceilings and floors of a
+ * list of keys. Specs are immutable and are built with builder():
+ *
+ *    SummarySpec&lt;Integer&gt; spec = SummarySpec.&lt;Integer&gt;builder()
+ *       .min().max().range(10, 20).ceiling(15).floor(15).build();
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class SummarySpec<T> {
+
+   private final boolean min;
+   private final boolean max;
+   private final List<T> lows;
+   private final List<T> highs;
+   private final List<T> ceilings;
+   private final List<T> floors;
+
+
+   private SummarySpec(Builder<T> b) {
+      min = b.min;
+      max = b.max;
+      lows = Collections.unmodifiableList(new ArrayList<T>(b.lows));
+      highs = Collections.unmodifiableList(new ArrayList<T>(b.highs));
+      ceilings = Collections.unmodifiableList(new ArrayList<T>(b.ceilings));
+      floors = Collections.unmodifiableList(new ArrayList<T>(b.floors));
+   }
+
+
+   /** Returns an empty builder. */
+   public static <T> Builder<T> builder() {
+      return new Builder<T>();
+   }
+
+
+   /** Returns true if the minimum is requested. */
+   public boolean min() {
+      return min;
+   }
+
+
+   /** Returns true if the maximum is requested. */
+   public boolean max() {
+      return max;
+   }
+
+
+   /** Returns the lower bounds of the requested ranges, in order. */
+   public List<T> lows() {
+      return lows;
+   }
+
+
+   /** Returns the upper bounds of the requested ranges, in order. */
+   public List<T> highs() {
+      return highs;
+   }
+
+
+   /** Returns the keys whose ceilings are requested, in order. */
+   public List<T> ceilings() {
+      return ceilings;
+   }
+
+
+   /** Returns the keys whose floors are requested, in order. */
+   public List<T> floors() {
+      return floors;
+   }
+
+
+   /** Accumulates the statistics of a SummarySpec. */
+   public static final class Builder<T> {
+      private boolean min;
+      private boolean max;
+      private final List<T> lows = new ArrayList<T>();
+      private final List<T> highs = new ArrayList<T>();
+      private final List<T> ceilings = new ArrayList<T>();
+      private final List<T> floors = new ArrayList<T>();
+
+      private Builder() { }
+
+      /** Requests the minimum value. */
+      public Builder<T> min() {
+         min = true;
+         return this;
+      }
+
+      /** Requests the maximum value. */
+      public Builder<T> max() {
+         max = true;
+         return this;
+      }
+
+      /**
+       * Requests the number of values in [low..high], counting
+       * duplicates. A range with low above high counts 0.
+       */
+      public Builder<T> range(T low, T high) {
+         lows.add(low);
+         highs.add(high);
+         return this;
+      }
+
+      /** Requests the ceiling of key. */
+      public Builder<T> ceiling(T key) {
+         ceilings.add(key);
+         return this;
+      }
+
+      /** Requests the floor of key. */
+      public Builder<T> floor(T key) {
+         floors.add(key);
+         return this;
+      }
+
+      /** Returns a spec of the statistics requested so far. */
+      public SummarySpec<T> build() {
+         return new SummarySpec<T>(this);
+      }
+   }
+}
@@ -0,0 +1,45 @@
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of a top-k selection: the k best distinct values in
+ * order, best first, and the kth of them.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public final class TopK<T> {
+
+   private final List<T> values;
+
+
+   /** Wraps values, which must be non-empty, in best-first order. */
+   TopK(List<T> values) {
+      this.values = Collections.unmodifiableList(values);
+   }
+
+
+   /** Returns the kth value; that is, the last of list(). */
+   public T kth() {
+      return values.get(values.size() - 1);
+   }
+
+
+   /** Returns the k values in best-first order, as an unmodifiable list. */
+   public List<T> list() {
+      return values;
+   }
+
+
+   /** Returns k, the number of values selected. */
+   public int k() {
+      return values.size();
+   }
+
+
+   @Override
+   public String toString() {
+      return values.toString();
+   }
+}
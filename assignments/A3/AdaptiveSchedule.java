@@ -0,0 +1,230 @@
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A time-budgeted size schedule for doubling experiments. Instead of
+ * timing one call per size for a fixed number of doublings, it
+ *
+ *  - warms up by calling the work at the starting size until WARMUP
+ *    seconds have passed, and discards those calls;
+ *  - at each size makes one untimed call, then times REPS batches, each
+ *    of as many back-to-back calls as it takes for the batch to clear
+ *    the noise floor, and records the per-call time of each batch, so
+ *    sizes whose single calls are too fast to time are still measured
+ *    rather than skipped;
+ *  - doubles n, and before each new size predicts its per-call time
+ *    from the model that ComplexityClassifier fits to the recorded
+ *    sizes (or from the last local exponent until there are enough of
+ *    them), stopping if one call would exceed the per-run ceiling or
+ *    the size would not fit in the remaining budget;
+ *  - finally drops the leading sizes whose per-call time is within a
+ *    small factor of the fastest, since those time the call and not
+ *    the work.
+ *
+ * A single call cannot be interrupted, so the ceiling and budget are
+ * only as good as the predictions; a call is never started if it is
+ * predicted to break either one.
+ *
+ * The schedule measures warmed-up code. If the JIT compiler removes
+ * the work being timed, per-call times stop growing with n and the
+ * fitted exponent falls toward 0. The provided Timeable objects are
+ * like this once defaultWork is inlined; keeping it out of line with
+ * -XX:CompileCommand=dontinline,*::defaultWork leaves the loops that
+ * call it, and so their growth, in place.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class AdaptiveSchedule {
+
+    /** Default shortest batch time, in seconds. */
+    public static final double DEFAULT_NOISE_FLOOR = 0.005;
+
+    /** Batches timed per size when the budget allows. */
+    public static final int REPS = 10;
+
+    /** Fewest batches timed per size. */
+    public static final int MIN_REPS = 2;
+
+    /** Most recorded sizes. */
+    public static final int MAX_SIZES = 16;
+
+    /** Warmup time at the starting size, in seconds. */
+    public static final double WARMUP = 0.5;
+
+    // leading sizes within this factor of the fastest are call overhead
+    private static final double OVERHEAD = 4;
+
+    private static final double SECONDS = 1_000_000_000d;
+
+    // what the recorded samples, and so their percentiles, are
+    private static final String SAMPLES = "per-call means of batches, not single calls";
+
+    private final double budget;
+    private final double ceiling;
+    private final double noiseFloor;
+
+    /**
+     * Creates a schedule that spends at most budget seconds in total and
+     * at most ceiling seconds on any one call. This constructor throws
+     * IllegalArgumentException unless 0 < ceiling <= budget.
+     */
+    public AdaptiveSchedule(double budget, double ceiling) {
+        this(budget, ceiling, DEFAULT_NOISE_FLOOR);
+    }
+
+    /**
+     * Creates a schedule with the given budget, ceiling, and noise
+     * floor, all in seconds. This constructor throws
+     * IllegalArgumentException unless 0 < noiseFloor < ceiling <= budget.
+     */
+    public AdaptiveSchedule(double budget, double ceiling, double noiseFloor) {
+        if (!(noiseFloor > 0 && noiseFloor < ceiling && ceiling <= budget)) {
+            throw new IllegalArgumentException();
+        }
+        this.budget = budget;
+        this.ceiling = ceiling;
+        this.noiseFloor = noiseFloor;
+    }
+
+    /**
+     * Runs work.accept(n) for the sizes of this schedule, starting at
+     * start, and returns the recorded per-call times in seconds.
+     */
+    public DoublingExperiment run(IntConsumer work, int start) {
+        return run(work, start, null);
+    }
+
+    /**
+     * Same as run(work, start), printing a line for every recorded size
+     * to log unless it is null. This method throws
+     * IllegalArgumentException if work is null or start is less than 2.
+     */
+    public DoublingExperiment run(IntConsumer work, int start, PrintStream log) {
+        if ((work == null) || (start < 2)) {
+            throw new IllegalArgumentException();
+        }
+        long begin = System.nanoTime();
+        while (elapsed(begin) < Math.min(WARMUP, budget / 10)) {
+            work.accept(start);
+        }
+        DoublingExperiment experiment = new DoublingExperiment("s", SAMPLES);
+        int n = start;
+        int prevN = 0;
+        double prevT = 0;
+        while (true) {
+            long sizeStart = System.nanoTime();
+            work.accept(n);
+            double first = elapsed(sizeStart);
+
+            double[] times = new double[REPS];
+            int reps = 0;
+            while (reps < REPS && (reps < MIN_REPS
+                   || elapsed(begin) + Math.max(first, noiseFloor) <= budget)) {
+                times[reps++] = batch(work, n);
+            }
+            times = Arrays.copyOf(times, reps);
+            DoublingExperiment.Measurement m =
+                DoublingExperiment.Measurement.of(n, times);
+            experiment.add(m);
+            if (log != null) {
+                log.println("Problem size = " + n + " "
+                    + "Elapsed time = " + m.mean());
+            }
+
+            if (n > Integer.MAX_VALUE / 2
+                || experiment.measurements().size() >= MAX_SIZES) {
+                break;
+            }
+            double next = predict(experiment, prevN, prevT, n, m.mean());
+            double cost = (1 + MIN_REPS) * Math.max(next, noiseFloor);
+            if (next > ceiling || elapsed(begin) + cost > budget) {
+                break;
+            }
+            prevN = n;
+            prevT = m.mean();
+            n = 2 * n;
+        }
+        return dropOverhead(experiment);
+    }
+
+    /**
+     * Returns experiment without its leading sizes whose per-call time
+     * is within OVERHEAD times the smallest, which measure the fixed cost
+     * of a call rather than the work, unless fewer than
+     * ComplexityClassifier.MIN_SAMPLES sizes would be left.
+     */
+    private static DoublingExperiment dropOverhead(DoublingExperiment experiment) {
+        List<DoublingExperiment.Measurement> ms = experiment.measurements();
+        double least = Double.POSITIVE_INFINITY;
+        for (DoublingExperiment.Measurement m : ms) {
+            least = Math.min(least, m.mean());
+        }
+        int first = 0;
+        while (first < ms.size() && ms.get(first).mean() <= OVERHEAD * least) {
+            first++;
+        }
+        if (first == 0 || ms.size() - first < ComplexityClassifier.MIN_SAMPLES) {
+            return experiment;
+        }
+        DoublingExperiment trimmed = new DoublingExperiment("s", SAMPLES);
+        for (int i = first; i < ms.size(); i++) {
+            trimmed.add(ms.get(i));
+        }
+        return trimmed;
+    }
+
+    /**
+     * Predicts the per-call time at 2n from the classified model of the
+     * recorded sizes when they are clean, and otherwise from the local
+     * exponent between the last two sizes.
+     */
+    private static double predict(DoublingExperiment experiment,
+                                  int prevN, double prevT, int n, double t) {
+        if (experiment.measurements().size() >= ComplexityClassifier.MIN_SAMPLES) {
+            ComplexityClassifier.Classification c =
+                ComplexityClassifier.classify(experiment);
+            if (!c.isNoisy()) {
+                ComplexityClassifier.Model m = c.model();
+                return t * Math.exp(m.logF(2.0 * n) - m.logF(n));
+            }
+        }
+        return t * Math.pow(2, localExponent(prevN, prevT, n, t));
+    }
+
+    /**
+     * Returns the power-law exponent between two sizes, taken to be at
+     * least 1, or 1 if it cannot be estimated.
+     */
+    private static double localExponent(int prevN, double prevT, int n, double t) {
+        if (prevN <= 0 || prevT <= 0 || t <= 0) {
+            return 1;
+        }
+        return Math.max(1, Math.log(t / prevT) / Math.log((double) n / prevN));
+    }
+
+    /**
+     * Calls work at size n until the calls together take at least the
+     * noise floor, and returns the time per call in seconds.
+     */
+    private double batch(IntConsumer work, int n) {
+        long start = System.nanoTime();
+        long calls = 0;
+        long now;
+        do {
+            work.accept(n);
+            calls++;
+            now = System.nanoTime();
+        } while ((now - start) / SECONDS < noiseFloor);
+        return (now - start) / SECONDS / calls;
+    }
+
+    /** Returns the seconds since begin. */
+    private static double elapsed(long begin) {
+        return (System.nanoTime() - begin) / SECONDS;
+    }
+
+}
@@ -0,0 +1,283 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies the growth rate of timing samples (n, T(n)) by least
+ * squares on log-transformed data.
+ *
+ * Each candidate model T = c f(n), for f in n, n log n, n^2, n^3, n^4,
+ * and 2^n, is fitted as log T = log c + log f(n), leaving only log c
+ * free; the model with the smallest residual sum of squares wins. The
+ * confidence of the choice is its Akaike weight among the candidates,
+ * which is near 1 when every other model fits clearly worse. A free
+ * power-law fit log T = log c + k log n is reported alongside, with the
+ * standard error of k.
+ *
+ * A run is flagged noisy, and should not be trusted whatever its
+ * confidence, when it has fewer than MIN_SAMPLES sizes, when the
+ * standard error of the free exponent is above MAX_EXPONENT_ERROR, or
+ * when a sample's own error is above MAX_RELATIVE_ERROR of its mean;
+ * samples with no error estimate (NaN) are skipped by the last check.
+ *
+ * main reads ProvidedClient output on standard input, so a run can be
+ * classified with: java ProvidedClient | java ComplexityClassifier
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class ComplexityClassifier {
+
+    /** Fewest sizes that can be classified. */
+    public static final int MIN_SAMPLES = 3;
+
+    /** Largest standard error of the free exponent of a clean run. */
+    public static final double MAX_EXPONENT_ERROR = 0.15;
+
+    /** Largest error-to-mean ratio of a clean sample. */
+    public static final double MAX_RELATIVE_ERROR = 0.10;
+
+    /** The candidate growth models. */
+    public enum Model {
+        LINEAR("n"),
+        LINEARITHMIC("n log n"),
+        QUADRATIC("n^2"),
+        CUBIC("n^3"),
+        QUARTIC("n^4"),
+        EXPONENTIAL("2^n");
+
+        private final String label;
+
+        Model(String label) {
+            this.label = label;
+        }
+
+        /** Returns log f(n) for this model. */
+        double logF(double n) {
+            switch (this) {
+                case LINEAR:
+                    return Math.log(n);
+                case LINEARITHMIC:
+                    return Math.log(n) + Math.log(Math.log(n));
+                case QUADRATIC:
+                    return 2 * Math.log(n);
+                case CUBIC:
+                    return 3 * Math.log(n);
+                case QUARTIC:
+                    return 4 * Math.log(n);
+                default:
+                    return n * Math.log(2);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    // guards log(0) when a model fits exactly
+    private static final double TINY = 1e-300;
+
+    private ComplexityClassifier() { }
+
+    /**
+     * Classifies the mean times of experiment, using the error of each
+     * measurement for the noise check. Measurements whose error was not
+     * estimated are left out of that check.
+     */
+    public static Classification classify(DoublingExperiment experiment) {
+        if (experiment == null) {
+            throw new IllegalArgumentException();
+        }
+        List<DoublingExperiment.Measurement> ms = experiment.measurements();
+        double[] n = new double[ms.size()];
+        double[] t = new double[ms.size()];
+        double worst = 0;
+        for (int i = 0; i < ms.size(); i++) {
+            n[i] = ms.get(i).n();
+            t[i] = ms.get(i).mean();
+            double relative = ms.get(i).error() / ms.get(i).mean();
+            // an error that was not estimated is NaN, which Math.max
+            // would carry through and hide every other sample's error
+            if (!Double.isNaN(relative)) {
+                worst = Math.max(worst, relative);
+            }
+        }
+        return classify(n, t, worst);
+    }
+
+    /**
+     * Classifies the times t[i] measured at sizes n[i]. This method
+     * throws IllegalArgumentException if the arrays are null or differ
+     * in length, or if any size is not above 1 or any time is not
+     * positive.
+     */
+    public static Classification classify(double[] n, double[] t) {
+        return classify(n, t, 0);
+    }
+
+    /** Classifies with worst as the largest relative sample error. */
+    private static Classification classify(double[] n, double[] t, double worst) {
+        if ((n == null) || (t == null) || (n.length != t.length)) {
+            throw new IllegalArgumentException();
+        }
+        int m = n.length;
+        double[] logT = new double[m];
+        for (int i = 0; i < m; i++) {
+            if (!(n[i] > 1) || !(t[i] > 0)) {
+                throw new IllegalArgumentException();
+            }
+            logT[i] = Math.log(t[i]);
+        }
+
+        Model[] models = Model.values();
+        double[] rss = new double[models.length];
+        int best = 0;
+        for (int j = 0; j < models.length; j++) {
+            double[] g = new double[m];
+            double intercept = 0;
+            for (int i = 0; i < m; i++) {
+                g[i] = models[j].logF(n[i]);
+                intercept += logT[i] - g[i];
+            }
+            intercept /= Math.max(m, 1);
+            for (int i = 0; i < m; i++) {
+                double r = logT[i] - g[i] - intercept;
+                rss[j] += r * r;
+            }
+            if (rss[j] < rss[best]) {
+                best = j;
+            }
+        }
+
+        // Akaike weights; every model has one free parameter
+        double[] weight = new double[models.length];
+        double top = Double.NEGATIVE_INFINITY;
+        for (int j = 0; j < models.length; j++) {
+            weight[j] = -0.5 * m * Math.log(Math.max(rss[j] / Math.max(m, 1), TINY));
+            top = Math.max(top, weight[j]);
+        }
+        double sum = 0;
+        for (int j = 0; j < models.length; j++) {
+            weight[j] = Math.exp(weight[j] - top);
+            sum += weight[j];
+        }
+        double confidence = weight[best] / sum;
+
+        // free power-law fit
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < m; i++) {
+            meanX += Math.log(n[i]);
+            meanY += logT[i];
+        }
+        meanX /= Math.max(m, 1);
+        meanY /= Math.max(m, 1);
+        double sxx = 0;
+        double sxy = 0;
+        for (int i = 0; i < m; i++) {
+            double dx = Math.log(n[i]) - meanX;
+            sxx += dx * dx;
+            sxy += dx * (logT[i] - meanY);
+        }
+        double exponent = (sxx > 0) ? sxy / sxx : Double.NaN;
+        double residual = 0;
+        for (int i = 0; i < m; i++) {
+            double r = logT[i] - meanY - exponent * (Math.log(n[i]) - meanX);
+            residual += r * r;
+        }
+        double exponentError = (m > 2 && sxx > 0)
+            ? Math.sqrt(residual / (m - 2) / sxx) : Double.POSITIVE_INFINITY;
+
+        boolean noisy = m < MIN_SAMPLES
+            || exponentError > MAX_EXPONENT_ERROR
+            || worst > MAX_RELATIVE_ERROR;
+        return new Classification(models[best], confidence, exponent,
+            exponentError, noisy);
+    }
+
+    /**
+     * Reads ProvidedClient output from standard input and prints the
+     * classification of the sizes it lists.
+     */
+    public static void main(String[] args) throws IOException {
+        Pattern line = Pattern.compile(
+            "Problem size = (\\d+)\\s+Elapsed time = ([0-9.Ee+-]+)");
+        List<double[]> samples = new ArrayList<double[]>();
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        for (String s = in.readLine(); s != null; s = in.readLine()) {
+            Matcher match = line.matcher(s);
+            if (match.find()) {
+                double n = Double.parseDouble(match.group(1));
+                double t = Double.parseDouble(match.group(2));
+                if (n > 1 && t > 0) {
+                    samples.add(new double[] {n, t});
+                }
+            }
+        }
+        double[] n = new double[samples.size()];
+        double[] t = new double[samples.size()];
+        for (int i = 0; i < n.length; i++) {
+            n[i] = samples.get(i)[0];
+            t[i] = samples.get(i)[1];
+        }
+        System.out.println(classify(n, t));
+    }
+
+    /** The outcome of a classification. */
+    public static final class Classification {
+        private final Model model;
+        private final double confidence;
+        private final double exponent;
+        private final double exponentError;
+        private final boolean noisy;
+
+        Classification(Model model, double confidence, double exponent,
+                       double exponentError, boolean noisy) {
+            this.model = model;
+            this.confidence = confidence;
+            this.exponent = exponent;
+            this.exponentError = exponentError;
+            this.noisy = noisy;
+        }
+
+        /** Returns the best-fitting model. */
+        public Model model() {
+            return model;
+        }
+
+        /** Returns the Akaike weight of the model, in [0, 1]. */
+        public double confidence() {
+            return confidence;
+        }
+
+        /** Returns the slope of the free log-log fit. */
+        public double exponent() {
+            return exponent;
+        }
+
+        /** Returns the standard error of exponent(). */
+        public double exponentError() {
+            return exponentError;
+        }
+
+        /** Returns true if the run is too noisy to classify. */
+        public boolean isNoisy() {
+            return noisy;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("T(n) ~ %s (confidence %.3f), free fit "
+                + "exponent %.3f +/- %.3f%s", model, confidence, exponent,
+                exponentError, noisy ? " [NOISY: do not trust]" : "");
+        }
+    }
+
+}
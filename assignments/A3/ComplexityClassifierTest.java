@@ -0,0 +1,61 @@
+/**
+ * Checks of ComplexityClassifier's noise flag on measurements whose
+ * error was not estimated. Each check throws an AssertionError when it
+ * fails.
+ *
+ * Usage: java ComplexityClassifierTest
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class ComplexityClassifierTest {
+
+    /** Runs every check, failing with an AssertionError on the first miss. */
+    public static void main(String[] args) {
+        nanErrorDoesNotHideNoise();
+        zeroErrorDoesNotHideNoise();
+        nanErrorAloneIsNotNoise();
+        System.out.println("ComplexityClassifierTest: all checks passed");
+    }
+
+    /** A leading NaN error must not mask the large errors after it. */
+    static void nanErrorDoesNotHideNoise() {
+        DoublingExperiment e = experiment(Double.NaN, 1.5, 3.0);
+        check(ComplexityClassifier.classify(e).isNoisy(),
+            "NaN error hid the noise of later samples");
+    }
+
+    /** The same data with a zero first error is noisy too. */
+    static void zeroErrorDoesNotHideNoise() {
+        DoublingExperiment e = experiment(0.0, 1.5, 3.0);
+        check(ComplexityClassifier.classify(e).isNoisy(),
+            "large sample errors were not flagged");
+    }
+
+    /** A clean run with one unestimated error is not flagged for it. */
+    static void nanErrorAloneIsNotNoise() {
+        DoublingExperiment e = experiment(Double.NaN, 0.01, 0.02);
+        check(!ComplexityClassifier.classify(e).isNoisy(),
+            "an unestimated error alone flagged a clean run");
+    }
+
+    /** Returns sizes 1000, 2000, 4000 with means 1, 2, 4 and the given errors. */
+    private static DoublingExperiment experiment(double... errors) {
+        DoublingExperiment e = new DoublingExperiment("s");
+        for (int i = 0; i < errors.length; i++) {
+            double mean = 1 << i;
+            e.add(new DoublingExperiment.Measurement(1000 << i, mean,
+                errors[i], mean, Double.NaN, Double.NaN));
+        }
+        return e;
+    }
+
+    /** Throws an AssertionError with message unless condition holds. */
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The results of a doubling experiment: one timing summary per problem
+ * size, and the analysis that turns them into growth rates. For each
+ * size after the first, the ratio R = T(n) / T(n/2) of the mean times
+ * and its log2 are reported; if T(n) ~ c n^k then log2 R approaches k.
+ *
+ * Measurements can come from any harness; Measurement.of summarizes a
+ * set of raw times. AdaptiveSchedule and TimeableBenchmark fill
+ * experiments this way.
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class DoublingExperiment {
+
+    // two-sided 99.9% Student t quantiles, indexed by degrees of freedom
+    private static final double[] T999 = {Double.NaN,
+        636.62, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587,
+        4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850,
+        3.819, 3.792, 3.768, 3.745, 3.725, 3.707, 3.690, 3.674, 3.659, 3.646};
+
+    // the normal quantile used beyond the table
+    private static final double Z999 = 3.291;
+
+    // fewest times from which the 90th and 99th percentiles are reported
+    private static final int MIN_P90 = 10;
+    private static final int MIN_P99 = 100;
+
+    private final String timeUnit;
+    private final String sampleKind;
+    private final List<Measurement> measurements = new ArrayList<Measurement>();
+
+    /**
+     * Creates an empty experiment whose times are in timeUnit, which is
+     * only used as a label.
+     */
+    public DoublingExperiment(String timeUnit) {
+        this(timeUnit, null);
+    }
+
+    /**
+     * Creates an empty experiment whose times are in timeUnit and whose
+     * samples are sampleKind, for example "batch means"; both are only
+     * used as labels, and a null sampleKind is left out of report().
+     */
+    public DoublingExperiment(String timeUnit, String sampleKind) {
+        this.timeUnit = timeUnit;
+        this.sampleKind = sampleKind;
+    }
+
+    /**
+     * Adds the summary for one problem size. Sizes may be added in any
+     * order.
+     */
+    public void add(Measurement m) {
+        if (m == null) {
+            throw new IllegalArgumentException();
+        }
+        measurements.add(m);
+        Collections.sort(measurements, (x, y) -> Integer.compare(x.n, y.n));
+    }
+
+    /** Returns the measurements in increasing order of size. */
+    public List<Measurement> measurements() {
+        return Collections.unmodifiableList(measurements);
+    }
+
+    /**
+     * Returns the ratios T(n_i) / T(n_{i-1}) of successive mean times;
+     * entry i - 1 belongs to measurement i.
+     */
+    public double[] ratios() {
+        double[] r = new double[Math.max(0, measurements.size() - 1)];
+        for (int i = 1; i < measurements.size(); i++) {
+            r[i - 1] = measurements.get(i).mean / measurements.get(i - 1).mean;
+        }
+        return r;
+    }
+
+    /**
+     * Returns the local power-law exponents
+     * log(T(n_i) / T(n_{i-1})) / log(n_i / n_{i-1}), which are log2 of
+     * the ratios when the sizes double.
+     */
+    public double[] exponents() {
+        double[] k = new double[Math.max(0, measurements.size() - 1)];
+        for (int i = 1; i < measurements.size(); i++) {
+            Measurement a = measurements.get(i - 1);
+            Measurement b = measurements.get(i);
+            k[i - 1] = Math.log(b.mean / a.mean) / Math.log((double) b.n / a.n);
+        }
+        return k;
+    }
+
+    /** Returns a table of every size with its statistics, ratio, and exponent. */
+    public String report() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("%10s %12s %12s %12s %12s %12s %8s %8s%n",
+            "n", "mean", "error", "p50", "p90", "p99", "ratio", "log2"));
+        double[] r = ratios();
+        double[] k = exponents();
+        for (int i = 0; i < measurements.size(); i++) {
+            Measurement m = measurements.get(i);
+            s.append(String.format("%10d %12s %12s %12s %12s %12s", m.n,
+                cell(m.mean), cell(m.error), cell(m.p50), cell(m.p90),
+                cell(m.p99)));
+            if (i == 0) {
+                s.append(String.format(" %8s %8s%n", "-", "-"));
+            } else {
+                s.append(String.format(" %8.3f %8.3f%n", r[i - 1], k[i - 1]));
+            }
+        }
+        s.append("times in " + timeUnit + "; error is the 99.9% confidence half-width");
+        if (sampleKind != null) {
+            s.append(String.format("%npercentiles are of " + sampleKind));
+        }
+        return s.toString();
+    }
+
+    /** Formats one time for report(), or "-" if it is NaN. */
+    private static String cell(double t) {
+        return Double.isNaN(t) ? "-" : String.format("%.4g", t);
+    }
+
+    /** The timing summary of one problem size. */
+    public static final class Measurement {
+        private final int n;
+        private final double mean;
+        private final double error;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+
+        /**
+         * Creates a summary of the times for size n: their mean, the
+         * half-width of the confidence interval of the mean, and the
+         * 50th, 90th, and 99th percentiles. A statistic that was not
+         * estimated is passed as NaN.
+         */
+        public Measurement(int n, double mean, double error,
+                           double p50, double p90, double p99) {
+            this.n = n;
+            this.mean = mean;
+            this.error = error;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+        }
+
+        /**
+         * Summarizes the raw times of size n: their mean, the 99.9%
+         * Student t half-width of the mean, and their percentiles. The
+         * error is NaN for a single time, the 90th percentile for fewer
+         * than 10 times, and the 99th for fewer than 100. This method
+         * throws IllegalArgumentException if times is null or empty.
+         */
+        public static Measurement of(int n, double[] times) {
+            if ((times == null) || (times.length == 0)) {
+                throw new IllegalArgumentException();
+            }
+            int r = times.length;
+            double mean = 0;
+            for (double t : times) {
+                mean += t;
+            }
+            mean /= r;
+            double ss = 0;
+            for (double t : times) {
+                ss += (t - mean) * (t - mean);
+            }
+            int df = r - 1;
+            double quantile = (df < T999.length) ? T999[df] : Z999;
+            double error = (df == 0) ? Double.NaN
+                : quantile * Math.sqrt(ss / df / r);
+            double[] sorted = times.clone();
+            Arrays.sort(sorted);
+            double median = (r % 2 == 1) ? sorted[r / 2]
+                : (sorted[r / 2 - 1] + sorted[r / 2]) / 2;
+            double p90 = (r >= MIN_P90) ? percentile(sorted, 0.90) : Double.NaN;
+            double p99 = (r >= MIN_P99) ? percentile(sorted, 0.99) : Double.NaN;
+            return new Measurement(n, mean, error, median, p90, p99);
+        }
+
+        /** Returns the nearest-rank percentile q of the sorted times. */
+        private static double percentile(double[] sorted, double q) {
+            int rank = (int) Math.ceil(q * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        /** Returns the problem size. */
+        public int n() {
+            return n;
+        }
+
+        /** Returns the mean time. */
+        public double mean() {
+            return mean;
+        }
+
+        /** Returns the half-width of the confidence interval of the mean. */
+        public double error() {
+            return error;
+        }
+
+        /** Returns the median time. */
+        public double p50() {
+            return p50;
+        }
+
+        /** Returns the 90th percentile time. */
+        public double p90() {
+            return p90;
+        }
+
+        /** Returns the 99th percentile time. */
+        public double p99() {
+            return p99;
+        }
+    }
+
+}
@@ -1,6 +1,25 @@
+import java.lang.management.ManagementFactory;
+
 /**
  * A client for ProvidedClass.
  *
+ * Times methodToTime(n) on an AdaptiveSchedule, with warmup and batched
+ * calls: n doubles from 2 until the next size is predicted to exceed
+ * the per-call ceiling or the total budget, the sizes that only time
+ * call overhead are dropped, and the growth model of the rest is
+ * printed at the end. Passing "fixed" as the first argument runs the
+ * original schedule instead, ten single calls with n doubling from 2,
+ * for reproducing earlier numbers.
+ *
+ * The adaptive schedule times warmed-up code, and once defaultWork is
+ * inlined the JIT removes it, so run with inlining of defaultWork
+ * turned off; without it the client warns that the times will not
+ * grow:
+ *
+ *        java -XX:CompileCommand=dontinline,*::defaultWork ProvidedClient
+ *             [budget seconds] [ceiling seconds]
+ *        java ProvidedClient fixed
+ *
  * @author Dean Hendrix (dh@auburn.edu)
  * @version 2017-09-17
  */
@@ -9,11 +28,40 @@ public class ProvidedClient {
     // to convert from nanoseconds to seconds
     private static final double SECONDS = 1_000_000_000d;
 
+    // default total and per-call time limits, in seconds
+    private static final double BUDGET = 60;
+    private static final double CEILING = 10;
+
     /** Drives execution. */
     public static void main(String[] args) {
+        ProvidedClass providedClass = new ProvidedClass(903881469);
+        if (args.length > 0 && args[0].equals("fixed")) {
+            runFixed(providedClass);
+            return;
+        }
+        if (!defaultWorkOutOfLine()) {
+            System.err.println("warning: defaultWork may be inlined and removed"
+                + " by the JIT, so warm times will not grow with n; run with"
+                + " -XX:CompileCommand=dontinline,*::defaultWork");
+        }
+        double budget = (args.length > 0) ? Double.parseDouble(args[0]) : BUDGET;
+        double ceiling = (args.length > 1) ? Double.parseDouble(args[1])
+            : Math.min(CEILING, budget);
+        long startTime = System.nanoTime();
+        DoublingExperiment experiment = new AdaptiveSchedule(budget, ceiling)
+            .run(providedClass::methodToTime, 2, System.out);
+        double elapsedTime = (System.nanoTime() - startTime) / SECONDS;
+        System.out.println(experiment.report());
+        if (experiment.measurements().size() >= ComplexityClassifier.MIN_SAMPLES) {
+            System.out.println(ComplexityClassifier.classify(experiment));
+        }
+        System.out.println("Total time = " + elapsedTime);
+    }
+
+    /** Runs the original fixed schedule: ten calls with n doubling from 2. */
+    private static void runFixed(ProvidedClass providedClass) {
         int numRuns = 10;
         int n = 2;
-        ProvidedClass providedClass = new ProvidedClass(903881469);
         for (int i = 0; i < numRuns; i++) {
             long startTime = System.nanoTime();
             providedClass.methodToTime(n);
@@ -25,4 +73,18 @@ public class ProvidedClient {
         }
     }
 
+    /**
+     * Returns true if this JVM was started with a CompileCommand that
+     * keeps defaultWork from being inlined, or runs interpreted only.
+     */
+    private static boolean defaultWorkOutOfLine() {
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.equals("-Xint") || (arg.startsWith("-XX:CompileCommand=")
+                && arg.contains("dontinline") && arg.contains("defaultWork"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
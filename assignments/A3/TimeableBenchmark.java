@@ -0,0 +1,197 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Doubling experiment for the Timeable objects of TimeableFactory, with
+ * warmup, forks, and repetitions. This is a plain-Java harness, not a
+ * JMH benchmark: the tree has no build that could supply JMH and its
+ * annotation processor, so the forking, warmup, and sampling that JMH
+ * would do are done here.
+ *
+ * Each problem size is run in FORKS fresh JVMs, so JIT compilation and
+ * GC in one size do not leak into another. Each fork calls
+ * polynomialTime(n) untimed for WARMUP seconds and then, for MEASURE
+ * seconds and at least MIN_SAMPLES samples, times batches of calls
+ * lasting at least NOISE_FLOOR seconds; a sample is the time per call
+ * of one batch. main runs the sizes start, 2 start, 4 start, ... and
+ * prints the mean, error, and percentiles of the samples of each,
+ * followed by the doubling ratios and log2 exponents computed by
+ * DoublingExperiment and the growth model chosen by
+ * ComplexityClassifier. Because a sample averages the calls in its
+ * batch, the percentiles are of batch means and understate the tails
+ * of single calls shorter than NOISE_FLOOR; the report says so.
+ *
+ * The forks run on the same classpath as the parent and inherit only
+ * its heap and GC options (-Xms, -Xmx, -Xmn, and -XX options naming
+ * Heap or GC), so agents such as a debugger are not started in every
+ * fork. Any other fork option is passed with a -J prefix. As with
+ * AdaptiveSchedule, the warmed-up provided objects only show their
+ * growth when defaultWork is kept from being inlined:
+ *
+ *        java TimeableBenchmark -J-XX:CompileCommand=dontinline,*::defaultWork
+ *             [key] [start] [sizes]
+ *
+ * @author   Ren McFaden (lam0080@auburn.edu)
+ * @version  2026-10-18
+ *
+ */
+public class TimeableBenchmark {
+
+    /** Fresh JVMs run per problem size. */
+    public static final int FORKS = 2;
+
+    /** Untimed warmup per fork, in seconds. */
+    public static final double WARMUP = 1;
+
+    /** Measurement time per fork, in seconds. */
+    public static final double MEASURE = 1;
+
+    /** Fewest samples taken per fork. */
+    public static final int MIN_SAMPLES = 5;
+
+    /** Shortest timed batch, in seconds. */
+    public static final double NOISE_FLOOR = 0.001;
+
+    // the key from ProvidedClient
+    private static final int DEFAULT_KEY = 903881469;
+
+    // first argument that makes main run as a fork
+    private static final String FORK = "--fork";
+
+    // prefix of an argument that is a JVM option for the forks
+    private static final String JVM_OPTION = "-J";
+
+    // parent JVM options that the forks inherit: heap and GC settings
+    private static final Pattern INHERITED =
+        Pattern.compile("-Xm[sxn].*|-XX:[+-]?\\w*(Heap|GC)\\w*(=.*)?");
+
+    // what the samples, and so their percentiles, are
+    private static final String SAMPLES = "per-call means of batches lasting at least "
+        + NOISE_FLOOR * 1000 + " ms, not single calls";
+
+    // to convert from nanoseconds to milliseconds
+    private static final double MILLIS = 1_000_000d;
+
+    /** Drives execution. */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals(FORK)) {
+            fork(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+            return;
+        }
+        List<String> options = forkOptions();
+        List<String> rest = new ArrayList<String>();
+        for (String arg : args) {
+            if (arg.startsWith(JVM_OPTION)) {
+                options.add(arg.substring(JVM_OPTION.length()));
+            }
+            else {
+                rest.add(arg);
+            }
+        }
+        int key = (rest.size() > 0) ? Integer.parseInt(rest.get(0)) : DEFAULT_KEY;
+        int start = (rest.size() > 1) ? Integer.parseInt(rest.get(1)) : 64;
+        int count = (rest.size() > 2) ? Integer.parseInt(rest.get(2)) : 6;
+        if (start < 1 || count < 1 || (long) start << (count - 1) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException();
+        }
+
+        DoublingExperiment experiment = new DoublingExperiment("ms", SAMPLES);
+        for (int i = 0; i < count; i++) {
+            int n = start << i;
+            List<Double> samples = new ArrayList<Double>();
+            for (int f = 0; f < FORKS; f++) {
+                samples.addAll(runFork(options, key, n));
+            }
+            double[] times = new double[samples.size()];
+            for (int j = 0; j < times.length; j++) {
+                times[j] = samples.get(j);
+            }
+            experiment.add(DoublingExperiment.Measurement.of(n, times));
+        }
+        System.out.println("Timeable " + TimeableFactory.getTimeableIndex(key)
+            + " (key " + key + ")");
+        System.out.println(experiment.report());
+        System.out.println(ComplexityClassifier.classify(experiment));
+    }
+
+    /** Returns the heap and GC options of this JVM, for the forks. */
+    private static List<String> forkOptions() {
+        List<String> options = new ArrayList<String>();
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (INHERITED.matcher(arg).matches()) {
+                options.add(arg);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Runs one fork with the given JVM options for size n of the object
+     * with the given key, and returns its samples in milliseconds.
+     * Throws IOException if the fork fails.
+     */
+    private static List<Double> runFork(List<String> options, int key, int n)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator
+            + "bin" + File.separator + "java");
+        command.addAll(options);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(TimeableBenchmark.class.getName());
+        command.add(FORK);
+        command.add(String.valueOf(key));
+        command.add(String.valueOf(n));
+        Process process = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+        List<Double> samples = new ArrayList<Double>();
+        try (BufferedReader in = new BufferedReader(
+                new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                samples.add(Double.parseDouble(line));
+            }
+        }
+        if (process.waitFor() != 0 || samples.isEmpty()) {
+            throw new IOException("fork for n = " + n + " failed");
+        }
+        return samples;
+    }
+
+    /**
+     * Body of a fork: warms up at size n and prints one sample per
+     * line, the time per call of a batch in milliseconds.
+     */
+    private static void fork(int key, int n) {
+        Timeable timeable = TimeableFactory.getTimeableObject(key);
+        long begin = System.nanoTime();
+        while (System.nanoTime() - begin < WARMUP * 1000 * MILLIS) {
+            timeable.polynomialTime(n);
+        }
+        List<Double> samples = new ArrayList<Double>();
+        begin = System.nanoTime();
+        while (samples.size() < MIN_SAMPLES
+               || System.nanoTime() - begin < MEASURE * 1000 * MILLIS) {
+            long start = System.nanoTime();
+            long calls = 0;
+            long now;
+            do {
+                timeable.polynomialTime(n);
+                calls++;
+                now = System.nanoTime();
+            } while (now - start < NOISE_FLOOR * 1000 * MILLIS);
+            samples.add((now - start) / MILLIS / calls);
+        }
+        for (double sample : samples) {
+            System.out.println(sample);
+        }
+    }
+
+}